@@ -0,0 +1,168 @@
+package com.pastlands.cosmeticslite.gametest;
+
+import com.mojang.logging.LogUtils;
+import com.pastlands.cosmeticslite.CosmeticDef;
+import com.pastlands.cosmeticslite.CosmeticEquipEvents;
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
+import com.pastlands.cosmeticslite.CosmeticsRegistry;
+import com.pastlands.cosmeticslite.PlayerData;
+import com.pastlands.cosmeticslite.entity.PetEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side load test: N mock players with a particle, hat, cape and pet equipped, ticked for a
+ * fixed number of ticks while a slice of them re-equips every tick.
+ *
+ * Nothing is invoked by the test itself: the hooks run from their normal event dispatch and are
+ * measured by their own {@link CosmeticsMetrics} timers, which are reset when warm-up ends.
+ * Results are logged per hook as ms/tick (total over the window / ticks) with p50, p99 and max
+ * per call; hooks that skip idle ticks show fewer calls than ticks. Runs on the dedicated game
+ * test server ({@code ./gradlew runGameTestServer}), so no display or GPU is needed.
+ *
+ * Tunables (system properties): {@code cosmeticslite.loadtest.players} (default 24),
+ * {@code cosmeticslite.loadtest.ticks} (default 200), {@code cosmeticslite.loadtest.maxMsPerTick}
+ * (total avg budget; unset = report only).
+ */
+@GameTestHolder(CosmeticsLite.MODID)
+@PrefixGameTestTemplate(false)
+public final class CosmeticsLoadTest {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int PLAYERS = Integer.getInteger("cosmeticslite.loadtest.players", 24);
+    private static final int TICKS = Mth.clamp(Integer.getInteger("cosmeticslite.loadtest.ticks", 200), 20, 1000);
+    private static final double MAX_MS_PER_TICK = parseDouble(System.getProperty("cosmeticslite.loadtest.maxMsPerTick"));
+
+    /** Ticks before measuring: lets login warm-up and pet spawns settle. */
+    private static final int WARMUP_TICKS = 140;
+    /** Players re-equipping per tick (drives the sync path). */
+    private static final int CHURN_PER_TICK = 2;
+
+    /** Server tick hooks reported (timer names in {@link CosmeticsMetrics}). */
+    private static final String[] HOOKS = {
+            "server.sync.flush",
+            "server.particles.tick",
+            "server.particles.deltas",
+            "server.pets.tick",
+            "server.pets.player_tick",
+            "server.equip.drain",
+            "server.net.chunked_drain"
+    };
+
+    @GameTest(template = "loadtest_floor", timeoutTicks = 1200 + WARMUP_TICKS + 20)
+    public static void serverCostPerTick(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+
+        List<ResourceLocation> particles = ids(PlayerData.TYPE_PARTICLES);
+        List<ResourceLocation> hats = ids(PlayerData.TYPE_HATS);
+        List<ResourceLocation> capes = ids(PlayerData.TYPE_CAPES);
+        List<ResourceLocation> pets = new ArrayList<>();
+        for (ResourceLocation id : ids(PlayerData.TYPE_PETS)) {
+            if (PetEntities.isPetId(id)) pets.add(id);
+        }
+        if (particles.isEmpty() || hats.isEmpty() || capes.isEmpty() || pets.isEmpty()) {
+            helper.fail("Registry is missing built-in cosmetics for at least one slot");
+            return;
+        }
+
+        // ---- players in a ring, all within particle view range of each other ----
+        List<ServerPlayer> players = new ArrayList<>(PLAYERS);
+        BlockPos centre = helper.absolutePos(new BlockPos(4, 1, 4));
+        for (int i = 0; i < PLAYERS; i++) {
+            ServerPlayer sp = helper.makeMockServerPlayerInLevel();
+            double a = (Math.PI * 2 * i) / PLAYERS;
+            sp.teleportTo(centre.getX() + 0.5 + Math.cos(a) * 12, centre.getY(), centre.getZ() + 0.5 + Math.sin(a) * 12);
+            equip(sp, particles.get(i % particles.size()), hats.get(i % hats.size()),
+                    capes.get(i % capes.size()), pets.get(i % pets.size()));
+            players.add(sp);
+        }
+
+        int[] churnCursor = { 0 };
+
+        helper.onEachTick(() -> {
+            long t = helper.getTick();
+            // Runs inside the level tick, before this tick's END hooks: the window is exactly TICKS ticks
+            if (t == WARMUP_TICKS + 1) CosmeticsMetrics.reset("server.");
+            if (t <= WARMUP_TICKS || t > WARMUP_TICKS + TICKS) return;
+
+            // A few players flip their particle + pet; the hooks pick the changes up this tick
+            for (int k = 0; k < CHURN_PER_TICK && !players.isEmpty(); k++) {
+                int i = churnCursor[0]++ % players.size();
+                ServerPlayer sp = players.get(i);
+                int flip = (int) (t + i);
+                equip(sp, particles.get(flip % particles.size()), null, null, pets.get(flip % pets.size()));
+            }
+        });
+
+        helper.runAfterDelay(WARMUP_TICKS + TICKS + 1, () -> {
+            double sumAvg = 0;
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("[CosLite] Load test: %d player(s), %d tick(s)%n", PLAYERS, TICKS));
+            for (String hook : HOOKS) {
+                CosmeticsMetrics.Timer timer = CosmeticsMetrics.timer(hook);
+                double avg = timer.totalNanos() / 1_000_000.0 / TICKS;
+                sumAvg += avg;
+                sb.append(String.format("  %-26s avg %.3f ms/tick; %d call(s), p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                        hook.substring("server.".length()), avg, timer.count(),
+                        timer.percentileNanos(0.50) / 1_000_000.0, timer.percentileNanos(0.99) / 1_000_000.0,
+                        timer.maxNanos() / 1_000_000.0));
+            }
+            sb.append(String.format("  %-26s avg %.3f ms/tick", "total", sumAvg));
+            LOGGER.info(sb.toString());
+
+            for (ServerPlayer sp : players) {
+                server.getPlayerList().remove(sp);
+            }
+
+            if (!Double.isNaN(MAX_MS_PER_TICK) && sumAvg > MAX_MS_PER_TICK) {
+                helper.fail(String.format("Cosmetics server cost %.3f ms/tick exceeds budget %.3f ms/tick", sumAvg, MAX_MS_PER_TICK));
+            } else {
+                helper.succeed();
+            }
+        });
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    /** Equip the given ids (null = leave slot alone) and publish, like an accepted equip request. */
+    private static void equip(ServerPlayer sp, ResourceLocation particle, ResourceLocation hat,
+                              ResourceLocation cape, ResourceLocation pet) {
+        PlayerData.get(sp).ifPresent(data -> {
+            Map<String, String> before = data.getAllEquipped();
+            if (particle != null) data.setEquippedId(PlayerData.TYPE_PARTICLES, particle);
+            if (hat != null)      data.setEquippedId(PlayerData.TYPE_HATS, hat);
+            if (cape != null)     data.setEquippedId(PlayerData.TYPE_CAPES, cape);
+            if (pet != null)      data.setEquippedId(PlayerData.TYPE_PETS, pet);
+            CosmeticEquipEvents.publish(sp, CosmeticEquipEvents.Cause.ADMIN, before, List.of());
+        });
+    }
+
+    private static List<ResourceLocation> ids(String type) {
+        List<ResourceLocation> out = new ArrayList<>();
+        for (CosmeticDef def : CosmeticsRegistry.getByType(type)) out.add(def.id());
+        return out;
+    }
+
+    private static double parseDouble(String s) {
+        if (s == null || s.isBlank()) return Double.NaN;
+        try {
+            return Double.parseDouble(s.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.pastlands.cosmeticslite.bench;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Shared setup for the JMH benchmarks.
+ *
+ * Benchmarks run in a plain JVM: no game, no FML mod loading. Vanilla registries are
+ * bootstrapped so classes that touch {@code Items} / {@code BuiltInRegistries} can initialise;
+ * mod state (cosmetics registry, palettes, stores) is filled directly by each benchmark.
+ */
+final class BenchSupport {
+
+    private BenchSupport() {}
+
+    private static boolean bootstrapped;
+
+    static synchronized void bootstrap() {
+        if (bootstrapped) return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.minigame.score.MiniGameScoreEntry;
+import com.pastlands.cosmeticslite.minigame.score.MiniGameScoreRule;
+import com.pastlands.cosmeticslite.minigame.score.MiniGameScoreStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MiniGameScoreStore#recordRun}, including the save it does after every run.
+ *
+ * Without FML the store falls back to {@code config/cosmeticslite/minigames/scores.json} relative
+ * to the working directory; the {@code jmh} Gradle task runs from {@code build/jmh-run}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MiniGameScoreBench {
+
+    /** Top-10 game (sorted list), win/loss game (counters only), default game. */
+    @Param({ "slide_puzzle", "battleship", "snake" })
+    public String gameId;
+
+    private MiniGameScoreStore store;
+    private MiniGameScoreRule rule;
+    private int run;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store = MiniGameScoreStore.getInstance();
+        store.loadIfNeeded();
+        rule = MiniGameScoreRule.forGame(gameId);
+    }
+
+    @Benchmark
+    public MiniGameScoreEntry recordRun() {
+        int r = run++;
+        MiniGameScoreEntry entry = new MiniGameScoreEntry(1_700_000_000_000L + r, (r * 7919) % 1000);
+        if (rule.isSupportsWinLoss()) entry.setWin((r & 1) == 0);
+        store.recordRun(gameId, entry, rule);
+        return entry;
+    }
+}
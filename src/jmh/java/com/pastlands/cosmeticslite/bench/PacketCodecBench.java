@@ -0,0 +1,197 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.PacketSyncCosmetics;
+import com.pastlands.cosmeticslite.PlayerData;
+import com.pastlands.cosmeticslite.network.IdPalette;
+import com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket;
+import com.pastlands.cosmeticslite.network.S2CIdPalette;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Encode / decode cost of the two heaviest sync packets: the per-player equip snapshot
+ * ({@link PacketSyncCosmetics}) and the full particle-definition snapshot
+ * ({@link ParticleDefinitionsSyncPacket}).
+ *
+ * {@code idMode} picks the id encoding: {@code literal} is a connection that has not been primed
+ * (ids as strings), {@code palette} seeds the server table and the client mirror with every id
+ * so ids travel as varint indices. Encoded sizes for both are printed once per trial; a change
+ * to either codec should be checked against these reference sizes:
+ * <pre>
+ *   idMode   definitions   equip   definitions
+ *   literal  16            157 B    4403 B
+ *   palette  16             33 B    3901 B
+ *   literal  128           157 B   35512 B
+ *   palette  128            33 B   31403 B
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketCodecBench {
+
+    /** Particle definitions in the snapshot. */
+    @Param({ "16", "128" })
+    public int definitions;
+
+    /** {@code literal} or {@code palette}. */
+    @Param({ "literal", "palette" })
+    public String idMode;
+
+    private boolean primed;
+
+    private Map<String, String> equipped;
+    private PacketSyncCosmetics equipMsg;
+    private ParticleDefinitionsSyncPacket defsMsg;
+
+    private FriendlyByteBuf scratch;
+    private FriendlyByteBuf equipWire;
+    private FriendlyByteBuf defsWire;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.bootstrap();
+        equipped = Map.of(
+                PlayerData.TYPE_PARTICLES, "cosmeticslite:particle/heart_blended",
+                PlayerData.TYPE_HATS, "cosmeticslite:hats/fantasy/wizard_hat",
+                PlayerData.TYPE_CAPES, "cosmeticslite:capes/galaxy",
+                PlayerData.TYPE_PETS, "cosmeticslite:pet_fox");
+        equipMsg = new PacketSyncCosmetics(1234, equipped);
+
+        // Definitions are built by decoding a hand-written wire image, so this only depends on
+        // the public codec and not on the definition record constructors.
+        defsMsg = ParticleDefinitionsSyncPacket.decode(definitionsWire(definitions));
+
+        primed = "palette".equals(idMode);
+        if (primed) seedPalette();
+
+        scratch = new FriendlyByteBuf(Unpooled.buffer(64 * 1024));
+        equipWire = encoded(buf -> PacketSyncCosmetics.encode(equipMsg, buf));
+        defsWire = encoded(buf -> ParticleDefinitionsSyncPacket.encode(defsMsg, buf));
+        System.out.printf("%n[PacketCodecBench] idMode=%s definitions=%d: equip %d bytes, definitions %d bytes%n",
+                idMode, definitions, equipWire.writerIndex(), defsWire.writerIndex());
+    }
+
+    @Benchmark
+    public int equip_encode() {
+        scratch.clear();
+        IdPalette.encodeFor(primed, () -> PacketSyncCosmetics.encode(equipMsg, scratch));
+        return scratch.writerIndex();
+    }
+
+    @Benchmark
+    public PacketSyncCosmetics equip_decode() {
+        equipWire.readerIndex(0);
+        return PacketSyncCosmetics.decode(equipWire);
+    }
+
+    @Benchmark
+    public int definitions_encode() {
+        scratch.clear();
+        IdPalette.encodeFor(primed, () -> ParticleDefinitionsSyncPacket.encode(defsMsg, scratch));
+        return scratch.writerIndex();
+    }
+
+    @Benchmark
+    public ParticleDefinitionsSyncPacket definitions_decode() {
+        defsWire.readerIndex(0);
+        return ParticleDefinitionsSyncPacket.decode(defsWire);
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private FriendlyByteBuf encoded(Consumer<FriendlyByteBuf> writer) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        IdPalette.encodeFor(primed, () -> writer.accept(buf));
+        return buf;
+    }
+
+    /** Server table plus client mirror, as a primed connection would hold them. */
+    private void seedPalette() {
+        List<ResourceLocation> ids = new ArrayList<>();
+        for (String id : equipped.values()) ids.add(ResourceLocation.parse(id));
+        for (int i = 0; i < definitions; i++) ids.add(benchId(i));
+        IdPalette.extend(ids);
+
+        FriendlyByteBuf table = encoded(buf -> S2CIdPalette.encode(new S2CIdPalette(0, ids), buf));
+        NetworkEvent.Context ctx = Mockito.mock(NetworkEvent.Context.class);
+        S2CIdPalette.handle(S2CIdPalette.decode(table), () -> ctx);
+    }
+
+    private static ResourceLocation benchId(int i) {
+        return ResourceLocation.fromNamespaceAndPath("cosmeticslite", "particle/bench_" + i);
+    }
+
+    /** Wire image of {@code n} definitions, each with two layers and one world layer. */
+    private static FriendlyByteBuf definitionsWire(int n) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt(n);
+        for (int i = 0; i < n; i++) {
+            IdPalette.write(buf, benchId(i));
+
+            buf.writeVarInt(2); // layers
+            for (int l = 0; l < 2; l++) {
+                buf.writeUtf(l == 0 ? "orbit" : "rise", 256);
+                buf.writeVarInt(3);
+                buf.writeInt(0xFFFF5555);
+                buf.writeInt(0xFF55FF55);
+                buf.writeInt(0xFF5555FF);
+                buf.writeFloat(20f);   // lifespan
+                buf.writeFloat(2f);    // spawnInterval
+                buf.writeFloat(0.2f);  // size
+                buf.writeFloat(0.05f); // speed
+                buf.writeFloat(1f);    // weight
+                buf.writeFloat(1f);    // previewScale
+            }
+
+            buf.writeVarInt(1); // world layers
+            ParticleDefinitionsSyncPacket.writeResourceLocation(buf, ResourceLocation.fromNamespaceAndPath("minecraft", "heart"));
+            buf.writeUtf("halo", 256);
+            buf.writeFloat(0.6f);  // radius
+            buf.writeFloat(1.0f);  // heightFactor
+            buf.writeVarInt(6);    // count
+            buf.writeFloat(0.02f); // speedY
+            buf.writeBoolean(false); // yOffset
+            buf.writeBoolean(false); // xScale
+            buf.writeBoolean(false); // direction
+            buf.writeFloat(1.0f);  // baseHeight
+            buf.writeFloat(0f);    // heightStretch
+            buf.writeUtf("HORIZONTAL", 32);
+            buf.writeVarInt(1);    // rotationDirection
+            for (int f = 0; f < 14; f++) buf.writeFloat(f == 4 || f == 5 ? 1f : 0f); // tilt .. torqueAmount
+            buf.writeUtf("LINEAR", 32);
+            buf.writeVarInt(0);    // spawnDelayVarianceMs
+
+            buf.writeBoolean(true);
+            buf.writeUtf("Benchmark definition " + i, 1024);
+            buf.writeBoolean(false); // styleHint
+            buf.writeUtf("Bench " + i, 256);
+            buf.writeUtf("", 2048);
+        }
+        return buf;
+    }
+}
@@ -0,0 +1,64 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog;
+import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import com.pastlands.cosmeticslite.particle.ParticleProfileResolver;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParticleProfileResolver#resolve}, called per emitting player per spawn pass.
+ *
+ * The particle registries are empty, so profile lookups walk the full fallback chain (the most
+ * expensive outcome). The client catalog is seeded with one entry, as after a slice arrived, so
+ * the mix covers a catalog hit, a catalog miss, particle ids in both namespaces and air. Catalog
+ * lookups never touch the client, so this runs in a plain JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticleProfileBench {
+
+    private ResourceLocation[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.bootstrap();
+        ResourceLocation heart = ResourceLocation.fromNamespaceAndPath("cosmeticslite", "cosmetic/heart");
+        CosmeticParticleClientCatalog.replaceAll(List.of(new CosmeticParticleEntry(
+                heart, ResourceLocation.fromNamespaceAndPath("minecraft", "heart"),
+                Component.literal("Heart"), CosmeticParticleEntry.Slot.AURA, null, null, null)));
+
+        ids = new ResourceLocation[] {
+                heart,
+                ResourceLocation.fromNamespaceAndPath("cosmeticslite", "cosmetic/unknown"),
+                ResourceLocation.fromNamespaceAndPath("cosmeticslite", "particle/heart_blended"),
+                ResourceLocation.fromNamespaceAndPath("minecraft", "flame"),
+                ResourceLocation.fromNamespaceAndPath("minecraft", "air")
+        };
+    }
+
+    @Benchmark
+    public ParticleProfileResolver.ResolutionResult resolve() {
+        if (next == ids.length) next = 0;
+        return ParticleProfileResolver.resolve(ids[next++]);
+    }
+}
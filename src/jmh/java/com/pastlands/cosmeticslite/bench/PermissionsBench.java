@@ -0,0 +1,98 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.CosmeticDef;
+import com.pastlands.cosmeticslite.CosmeticsRegistry;
+import com.pastlands.cosmeticslite.permission.CosmeticsFeature;
+import com.pastlands.cosmeticslite.permission.CosmeticsPermissionNodes;
+import com.pastlands.cosmeticslite.permission.CosmeticsPermissions;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.server.permission.PermissionAPI;
+import net.minecraftforge.server.permission.handler.DefaultPermissionHandler;
+import net.minecraftforge.server.permission.nodes.PermissionNode;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CosmeticsPermissions} node resolution for a player with no grants, i.e. the longest path
+ * (bypass, staff, op, feature node, then every rank node) before the answer is "no".
+ *
+ * Forge's {@link DefaultPermissionHandler} is installed with the mod's nodes, as a server does
+ * after {@code PermissionGatherEvent}. The player is a Mockito mock with only the identity stubbed;
+ * it has no server, so the op check is a null check. Mock dispatch adds a few ns per player call,
+ * which is the same for every run and fine for before/after comparisons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PermissionsBench {
+
+    private ServerPlayer player;
+    private CosmeticDef customHat;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        BenchSupport.bootstrap();
+        installDefaultHandler();
+
+        player = Mockito.mock(ServerPlayer.class);
+        Mockito.when(player.getUUID()).thenReturn(UUID.fromString("00000000-0000-0000-0000-00000000be9c"));
+        Mockito.when(player.getPersistentData()).thenReturn(new CompoundTag());
+
+        customHat = new CosmeticDef(ResourceLocation.fromNamespaceAndPath("cosmeticslite", "hats/fantasy/wizard_hat"),
+                "Wizard Hat", "", CosmeticsRegistry.TYPE_HATS,
+                ResourceLocation.fromNamespaceAndPath("minecraft", "stone"), Map.of(), "fantasy");
+    }
+
+    @Benchmark
+    public boolean feature_pets() {
+        return CosmeticsPermissions.canUseFeature(player, CosmeticsFeature.PETS);
+    }
+
+    @Benchmark
+    public boolean feature_particleLab() {
+        return CosmeticsPermissions.canUseFeature(player, CosmeticsFeature.PARTICLE_LAB);
+    }
+
+    @Benchmark
+    public boolean hat_custom() {
+        return CosmeticsPermissions.canUseHat(player, customHat);
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    /** PermissionAPI only gets a handler during server start; set it the same way, reflectively. */
+    private static void installDefaultHandler() throws ReflectiveOperationException {
+        List<PermissionNode<?>> nodes = new ArrayList<>();
+        for (Field f : CosmeticsPermissionNodes.class.getFields()) {
+            if (Modifier.isStatic(f.getModifiers()) && f.getType() == PermissionNode.class) {
+                nodes.add((PermissionNode<?>) f.get(null));
+            }
+        }
+        Field active = PermissionAPI.class.getDeclaredField("activeHandler");
+        active.setAccessible(true);
+        active.set(null, new DefaultPermissionHandler(nodes));
+    }
+}
@@ -0,0 +1,74 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.PlayerData;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlayerData} NBT save / load, as done for every player on save, clone (respawn) and login.
+ * The fixture has all four slots equipped plus a variant, colour and extra style tag on the pet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerDataNbtBench {
+
+    private PlayerData source;
+    private PlayerData target;
+    private CompoundTag saved;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.bootstrap();
+        source = new PlayerData();
+        source.setEquippedId(PlayerData.TYPE_PARTICLES, rl("particle/heart_blended"));
+        source.setEquippedId(PlayerData.TYPE_HATS, rl("hats/fantasy/wizard_hat"));
+        source.setEquippedId(PlayerData.TYPE_CAPES, rl("capes/galaxy"));
+        source.setEquippedId(PlayerData.TYPE_PETS, rl("pet_fox"));
+        source.setEquippedVariant(PlayerData.TYPE_PETS, 1);
+        source.setEquippedColor(PlayerData.TYPE_PETS, 0x00EB8844);
+        CompoundTag extra = new CompoundTag();
+        extra.putString("collar", "red");
+        source.setEquippedStyleTag(PlayerData.TYPE_PETS, extra);
+
+        target = new PlayerData();
+        saved = source.serializeNBT();
+    }
+
+    @Benchmark
+    public CompoundTag save() {
+        return source.serializeNBT();
+    }
+
+    @Benchmark
+    public PlayerData load() {
+        target.deserializeNBT(saved);
+        return target;
+    }
+
+    @Benchmark
+    public PlayerData roundTrip() {
+        target.deserializeNBT(source.serializeNBT());
+        return target;
+    }
+
+    private static ResourceLocation rl(String path) {
+        return ResourceLocation.fromNamespaceAndPath("cosmeticslite", path);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pastlands.cosmeticslite.bench;
+
+import com.pastlands.cosmeticslite.CosmeticDef;
+import com.pastlands.cosmeticslite.CosmeticsRegistry;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CosmeticsRegistry#get} / {@link CosmeticsRegistry#getByType} under concurrent readers
+ * (menu opens, equip validation and sync all read the registry from different threads).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryBench {
+
+    private static final String[] TYPES = {
+            CosmeticsRegistry.TYPE_PARTICLES, CosmeticsRegistry.TYPE_HATS,
+            CosmeticsRegistry.TYPE_CAPES, CosmeticsRegistry.TYPE_PETS
+    };
+
+    /** Cosmetics per type. */
+    @Param({ "50", "250" })
+    public int perType;
+
+    private ResourceLocation[] ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.bootstrap();
+        List<CosmeticDef> defs = new ArrayList<>(perType * TYPES.length);
+        List<ResourceLocation> idList = new ArrayList<>(perType * TYPES.length);
+        for (String type : TYPES) {
+            for (int i = 0; i < perType; i++) {
+                ResourceLocation id = ResourceLocation.fromNamespaceAndPath("cosmeticslite", type + "/bench_" + i);
+                defs.add(new CosmeticDef(id, "Bench " + i, "", type,
+                        ResourceLocation.fromNamespaceAndPath("minecraft", "stone"), Map.of()));
+                idList.add(id);
+            }
+        }
+        CosmeticsRegistry.replaceAll(defs, false);
+        ids = idList.toArray(new ResourceLocation[0]);
+    }
+
+    /** Per-thread cursor so readers walk different ids. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CosmeticDef get_1thread(Cursor c) {
+        return CosmeticsRegistry.get(ids[c.next++ % ids.length]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CosmeticDef get_4threads(Cursor c) {
+        return CosmeticsRegistry.get(ids[c.next++ % ids.length]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<CosmeticDef> getByType_1thread(Cursor c) {
+        return CosmeticsRegistry.getByType(TYPES[c.next++ & 3]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<CosmeticDef> getByType_4threads(Cursor c) {
+        return CosmeticsRegistry.getByType(TYPES[c.next++ & 3]);
+    }
+}
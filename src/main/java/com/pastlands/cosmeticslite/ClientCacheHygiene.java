@@ -20,6 +20,11 @@ public final class ClientCacheHygiene {
     @SubscribeEvent
     public static void onClientLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
         ClientState.clearAllEntities();
+        // Session palette is per connection; a fresh table arrives on the next join
+        com.pastlands.cosmeticslite.network.IdPalette.clearClient();
+        com.pastlands.cosmeticslite.network.ChunkedTransfer.clearClient();
+        // Client timings are per session (F3 shows them since the last join)
+        CosmeticsMetrics.reset("client.");
         // Note: we intentionally do NOT clear LOCAL; the next login will mirror from the server packet.
     }
 
@@ -27,5 +32,7 @@ public final class ClientCacheHygiene {
     @SubscribeEvent
     public static void onClientLoggedIn(ClientPlayerNetworkEvent.LoggingIn event) {
         ClientState.clearAllEntities();
+        // Ask for the login bundle, offering the section hashes we still hold for this server
+        com.pastlands.cosmeticslite.network.C2SLoginSyncHello.sendFromClient();
     }
 }
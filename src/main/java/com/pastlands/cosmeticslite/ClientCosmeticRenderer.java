@@ -50,6 +50,8 @@ public final class ClientCosmeticRenderer {
     // Debug flag for renderer logging (disabled by default to reduce log noise)
     private static final boolean DEBUG_COSMETICS_RENDERER = false;
 
+    private static final CosmeticsMetrics.Timer TICK_TIME = CosmeticsMetrics.timer("client.particles.tick");
+
     // ------------------------------- JSON-Driven Parameters -------------------------------
 
     private static final float MIN_INTERVAL = 0.01f; // max ~100 spawns/sec
@@ -168,7 +170,12 @@ public final class ClientCosmeticRenderer {
     @SubscribeEvent
     public static void onClientTick(TickEvent.ClientTickEvent event) {
         if (event.phase != TickEvent.Phase.END) return;
+        long start = System.nanoTime();
+        tickLocalPlayer();
+        TICK_TIME.recordSince(start);
+    }
 
+    private static void tickLocalPlayer() {
         Minecraft mc = Minecraft.getInstance();
         LocalPlayer player = mc.player;
         if (player == null || mc.level == null) return;
@@ -0,0 +1,30 @@
+package com.pastlands.cosmeticslite;
+
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.List;
+
+/**
+ * Adds the client-side {@link CosmeticsMetrics} (particle tick, hat/cape/pet render layers) to
+ * the F3 debug text, left column. Server figures are in {@code /cosmetics perf}.
+ *
+ * MC 1.20.1 • Forge 47.4.0
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public final class ClientPerfOverlay {
+
+    private ClientPerfOverlay() {}
+
+    @SubscribeEvent
+    public static void onDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (!Minecraft.getInstance().options.renderDebug) return;
+        List<String> lines = CosmeticsMetrics.debugLines("client.");
+        if (lines.isEmpty()) return;
+        event.getLeft().add("");
+        event.getLeft().addAll(lines);
+    }
+}
@@ -108,6 +108,16 @@ public final class ClientState {
         BY_ENTITY.put(entityId, map);
     }
 
+    /** Delta path: patch one slot of an entity's cached map (null/air = unequipped). */
+    public static void applyDelta(int entityId, String type, @Nullable ResourceLocation id) {
+        Map<String, ResourceLocation> map = BY_ENTITY.computeIfAbsent(entityId, k -> new HashMap<>());
+        if (isAir(id)) {
+            map.remove(type);
+        } else {
+            map.put(type, id);
+        }
+    }
+
     // --------------------------------------------------------------------------------------------
     // Queries
     // --------------------------------------------------------------------------------------------
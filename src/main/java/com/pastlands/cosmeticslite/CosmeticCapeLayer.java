@@ -33,6 +33,8 @@ final class CosmeticCapeLayer extends RenderLayer<AbstractClientPlayer, PlayerMo
     }
     private static final WeakHashMap<AbstractClientPlayer, SwingState> SWING = new WeakHashMap<>();
 
+    private static final CosmeticsMetrics.Timer RENDER_TIME = CosmeticsMetrics.timer("client.render.cape");
+
     CosmeticCapeLayer(RenderLayerParent<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> parent) {
         super(parent);
     }
@@ -46,6 +48,16 @@ final class CosmeticCapeLayer extends RenderLayer<AbstractClientPlayer, PlayerMo
             PoseStack pose, MultiBufferSource buffer, int light, AbstractClientPlayer player,
             float limbSwing, float limbSwingAmount, float partialTick,
             float ageInTicks, float netHeadYaw, float headPitch
+    ) {
+        long start = System.nanoTime();
+        renderCape(pose, buffer, light, player, limbSwing, limbSwingAmount, partialTick, ageInTicks, netHeadYaw, headPitch);
+        RENDER_TIME.recordSince(start);
+    }
+
+    private void renderCape(
+            PoseStack pose, MultiBufferSource buffer, int light, AbstractClientPlayer player,
+            float limbSwing, float limbSwingAmount, float partialTick,
+            float ageInTicks, float netHeadYaw, float headPitch
     ) {
         // Resolve which cape to show: preview override (mannequin) or equipped on the player.
         ResourceLocation ov = CosmeticsChestScreen.PreviewResolver.getOverride("capes", player);
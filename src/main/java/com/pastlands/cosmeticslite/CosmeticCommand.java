@@ -11,8 +11,8 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.server.permission.PermissionAPI;
+import com.pastlands.cosmeticslite.network.NetTelemetry;
 import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
 import com.pastlands.cosmeticslite.permission.CosmeticsPermissions;
 
@@ -56,10 +56,7 @@ public class CosmeticCommand {
                     }
 
                     // Open cosmetics menu
-                    CosmeticsLite.NETWORK.send(
-                        PacketDistributor.PLAYER.with(() -> player),
-                        new OpenCosmeticsScreenPacket()
-                    );
+                    NetTelemetry.sendTo(player, new OpenCosmeticsScreenPacket());
                     return 1;
                 })
             )
@@ -78,8 +75,8 @@ public class CosmeticCommand {
                     ctx.getSource().sendSuccess(() ->
                         Component.literal("Testing pet spawn for " + player.getName().getString()), true);
 
-                    // Force call pet manager
-                    com.pastlands.cosmeticslite.entity.PetManager.updatePlayerPet(player);
+                    // Force a full refresh (sync + pet) through the equip observers
+                    CosmeticEquipEvents.publishRefresh(player, CosmeticEquipEvents.Cause.ADMIN);
                     return 1;
                 })
             )
@@ -108,7 +105,7 @@ public class CosmeticCommand {
                             Collection<ServerPlayer> targets = EntityArgument.getPlayers(ctx, "player");
                             for (ServerPlayer target : targets) {
                                 grantAccess(target);
-                                sendAccessSync(target);
+                                SyncCoalescer.mark(target, SyncCoalescer.Channel.ACCESS);
                                 ctx.getSource().sendSuccess(() ->
                                     Component.literal("§aGranted cosmetics access to " + target.getName().getString()), true);
                             }
@@ -132,7 +129,7 @@ public class CosmeticCommand {
                                 boolean anySuccess = false;
                                 for (ServerPlayer target : targets) {
                                     if (applyShortcutGrant(target, token)) {
-                                        CosmeticsLite.sendEntitlements(target);
+                                        SyncCoalescer.mark(target, SyncCoalescer.Channel.ENTITLEMENTS);
                                         anySuccess = true;
                                     }
                                 }
@@ -168,7 +165,7 @@ public class CosmeticCommand {
                             Collection<ServerPlayer> targets = EntityArgument.getPlayers(ctx, "player");
                             for (ServerPlayer target : targets) {
                                 revokeAccess(target);
-                                sendAccessSync(target);
+                                SyncCoalescer.mark(target, SyncCoalescer.Channel.ACCESS);
                                 ctx.getSource().sendSuccess(() ->
                                     Component.literal("§cRevoked cosmetics access from " + target.getName().getString()), true);
                             }
@@ -192,7 +189,7 @@ public class CosmeticCommand {
                                 boolean anySuccess = false;
                                 for (ServerPlayer target : targets) {
                                     if (applyShortcutRevoke(target, token)) {
-                                        CosmeticsLite.sendEntitlements(target);
+                                        SyncCoalescer.mark(target, SyncCoalescer.Channel.ENTITLEMENTS);
                                         anySuccess = true;
                                     }
                                 }
@@ -235,6 +232,71 @@ public class CosmeticCommand {
                 )
             )
             // -------------------------
+            // /cosmetics perf ...
+            // -------------------------
+            .then(Commands.literal("perf")
+                .executes(ctx -> {
+                    if (!canUseAdmin(ctx.getSource())) {
+                        ctx.getSource().sendFailure(Component.literal("§cYou do not have permission to use this command."));
+                        return 0;
+                    }
+                    for (String line : CosmeticsMetrics.report("server.")) {
+                        ctx.getSource().sendSuccess(() -> Component.literal(line), false);
+                    }
+                    return 1;
+                })
+                .then(Commands.literal("reset")
+                    .executes(ctx -> {
+                        if (!canUseAdmin(ctx.getSource())) {
+                            ctx.getSource().sendFailure(Component.literal("§cYou do not have permission to use this command."));
+                            return 0;
+                        }
+                        CosmeticsMetrics.reset("server.");
+                        ctx.getSource().sendSuccess(() -> Component.literal("§aTick metrics reset"), true);
+                        return 1;
+                    })
+                )
+                .then(Commands.literal("net")
+                    .executes(ctx -> {
+                        if (!canUseAdmin(ctx.getSource())) {
+                            ctx.getSource().sendFailure(Component.literal("§cYou do not have permission to use this command."));
+                            return 0;
+                        }
+                        for (String line : NetTelemetry.report(15)) {
+                            ctx.getSource().sendSuccess(() -> Component.literal(line), false);
+                        }
+                        return 1;
+                    })
+                    .then(Commands.literal("reset")
+                        .executes(ctx -> {
+                            if (!canUseAdmin(ctx.getSource())) {
+                                ctx.getSource().sendFailure(Component.literal("§cYou do not have permission to use this command."));
+                                return 0;
+                            }
+                            NetTelemetry.reset();
+                            ctx.getSource().sendSuccess(() -> Component.literal("§aNetwork counters reset"), true);
+                            return 1;
+                        })
+                    )
+                )
+                .then(Commands.literal("pets")
+                    .executes(ctx -> {
+                        if (!canUseAdmin(ctx.getSource())) {
+                            ctx.getSource().sendFailure(Component.literal("§cYou do not have permission to use this command."));
+                            return 0;
+                        }
+                        for (String line : com.pastlands.cosmeticslite.entity.PetMaintenanceScheduler.report()) {
+                            ctx.getSource().sendSuccess(() -> Component.literal(line), false);
+                        }
+                        String tracked = com.pastlands.cosmeticslite.entity.TrackedPetRegistry.report();
+                        ctx.getSource().sendSuccess(() -> Component.literal(tracked), false);
+                        String lod = com.pastlands.cosmeticslite.entity.PetAiLod.report();
+                        ctx.getSource().sendSuccess(() -> Component.literal(lod), false);
+                        return 1;
+                    })
+                )
+            )
+            // -------------------------
             // /cosmetics particles ...
             // -------------------------
             .then(Commands.literal("particles")
@@ -253,14 +315,11 @@ public class CosmeticCommand {
                         ctx.getSource().sendSuccess(() ->
                             Component.literal("§aReloaded " + loaded + " particle definition(s) from config"), true);
                         
-                        // Broadcast sync packet to all clients
-                        java.util.Map<ResourceLocation, com.pastlands.cosmeticslite.particle.config.ParticleDefinition> allDefs = new java.util.HashMap<>();
-                        for (var def : CosmeticParticleRegistry.all()) {
-                            allDefs.put(def.id(), def);
+                        // Sync to all clients at end of tick (palette first, for new ids)
+                        com.pastlands.cosmeticslite.network.IdPalette.refreshFromRegistries();
+                        for (ServerPlayer online : ctx.getSource().getServer().getPlayerList().getPlayers()) {
+                            SyncCoalescer.mark(online, SyncCoalescer.Channel.DEFINITIONS);
                         }
-                        com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket syncPacket = 
-                            new com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket(allDefs);
-                        CosmeticsLite.NETWORK.send(PacketDistributor.ALL.noArg(), syncPacket);
                         
                         CosmeticsLite.LOGGER.info("[cosmeticslite] Particle definitions reloaded by {} and synced to all clients", player.getName().getString());
                         
@@ -289,7 +348,7 @@ public class CosmeticCommand {
                             // Send preview packet to client
                             com.pastlands.cosmeticslite.network.ParticlePreviewPacket previewPacket = 
                                 new com.pastlands.cosmeticslite.network.ParticlePreviewPacket(true, particleId);
-                            CosmeticsLite.NETWORK.send(PacketDistributor.PLAYER.with(() -> player), previewPacket);
+                            NetTelemetry.sendTo(player, previewPacket);
                             
                             ctx.getSource().sendSuccess(() ->
                                 Component.literal("§aPreview mode activated for: " + particleId), true);
@@ -309,7 +368,7 @@ public class CosmeticCommand {
                             // Send preview off packet to client
                             com.pastlands.cosmeticslite.network.ParticlePreviewPacket previewPacket = 
                                 new com.pastlands.cosmeticslite.network.ParticlePreviewPacket(false, null);
-                            CosmeticsLite.NETWORK.send(PacketDistributor.PLAYER.with(() -> player), previewPacket);
+                            NetTelemetry.sendTo(player, previewPacket);
                             
                             ctx.getSource().sendSuccess(() ->
                                 Component.literal("§aPreview mode disabled"), true);
@@ -358,7 +417,7 @@ public class CosmeticCommand {
     // -------------------------
     // Player Access Helpers (legacy global switch)
     // -------------------------
-    private static boolean hasAccess(ServerPlayer player) {
+    public static boolean hasAccess(ServerPlayer player) {
         CompoundTag tag = player.getPersistentData();
         return tag.getBoolean(UNLOCK_TAG);
     }
@@ -373,11 +432,9 @@ public class CosmeticCommand {
         tag.remove(UNLOCK_TAG);
     }
 
+    /** Immediate send; state changes should go through {@link SyncCoalescer} instead. */
     public static void sendAccessSync(ServerPlayer player) {
-        CosmeticsLite.NETWORK.send(
-            PacketDistributor.PLAYER.with(() -> player),
-            new com.pastlands.cosmeticslite.network.SyncCosmeticsAccessPacket(hasAccess(player))
-        );
+        NetTelemetry.sendTo(player, new com.pastlands.cosmeticslite.network.SyncCosmeticsAccessPacket(hasAccess(player)));
     }
 
     private static int executeOrphanedPetsCleanup(CommandSourceStack source, boolean previewOnly) {
@@ -0,0 +1,141 @@
+package com.pastlands.cosmeticslite;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-side observer hub for equip changes.
+ *
+ * Producers (equip requests, admin commands, login/clone/respawn/dimension change) publish
+ * AFTER PlayerData has been mutated. Subsystems (sync, pets, particle broadcaster) register a
+ * listener once at mod init and react only to what changed; their periodic polling is kept
+ * as a slow safety net.
+ *
+ * One event is published per logical change (a clear-all is a single event touching every type).
+ * All publishing happens on the server thread.
+ */
+public final class CosmeticEquipEvents {
+
+    private CosmeticEquipEvents() {}
+
+    /** Every equip slot a refresh event touches. */
+    public static final List<String> ALL_TYPES = PlayerData.TYPES;
+
+    /** Why an event was published. Lifecycle causes are full refreshes, not diffs. */
+    public enum Cause {
+        EQUIP_REQUEST,
+        /** Variant / colour of an equipped cosmetic changed; the equipped id did not. */
+        STYLE_CHANGE,
+        ADMIN,
+        LOGIN,
+        CLONE,
+        RESPAWN,
+        DIMENSION_CHANGE;
+
+        /** True when the player entity (not the equip state) changed; listeners should refresh everything. */
+        public boolean isLifecycle() {
+            return this == LOGIN || this == CLONE || this == RESPAWN || this == DIMENSION_CHANGE;
+        }
+    }
+
+    /**
+     * A typed equip change for one player.
+     *
+     * @param previous     type -> id snapshot before the change (empty for lifecycle refreshes)
+     * @param current      type -> id snapshot after the change
+     * @param touchedTypes types whose id changed, or whose style may have changed
+     */
+    public record EquipChanged(ServerPlayer player,
+                               Cause cause,
+                               Map<String, String> previous,
+                               Map<String, String> current,
+                               Set<String> touchedTypes) {
+
+        public boolean touched(String type) {
+            return touchedTypes.contains(type);
+        }
+
+        /** Equipped id for a type after the change, or null if unequipped. */
+        @Nullable
+        public ResourceLocation currentId(String type) {
+            String s = current.get(type);
+            return (s == null || s.isEmpty()) ? null : ResourceLocation.tryParse(s);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onEquipChanged(EquipChanged event);
+    }
+
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /** Registers a listener. Listeners run in registration order. */
+    public static void register(Listener listener) {
+        if (listener != null) LISTENERS.add(listener);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Publishing
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * Publish a change after PlayerData was mutated.
+     *
+     * @param before       snapshot taken with {@link PlayerData#getAllEquipped()} before mutating
+     * @param touchedTypes types the caller touched (style-only changes keep the same id but still count)
+     */
+    public static void publish(ServerPlayer sp, Cause cause, Map<String, String> before,
+                               Collection<String> touchedTypes) {
+        if (sp == null) return;
+        PlayerData.get(sp).ifPresent(data -> {
+            Map<String, String> after = data.getAllEquipped();
+            Set<String> touched = new LinkedHashSet<>();
+            if (touchedTypes != null) touched.addAll(touchedTypes);
+            for (String type : ALL_TYPES) {
+                if (!Objects.equals(before.get(type), after.get(type))) touched.add(type);
+            }
+            if (touched.isEmpty()) return;
+            fire(new EquipChanged(sp, cause, Collections.unmodifiableMap(new HashMap<>(before)), after,
+                    Collections.unmodifiableSet(touched)));
+        });
+    }
+
+    /** Publish a full refresh (login, clone, respawn, dimension change, admin force). */
+    public static void publishRefresh(ServerPlayer sp, Cause cause) {
+        if (sp == null) return;
+        PlayerData.get(sp).ifPresent(data -> fire(new EquipChanged(sp, cause, Collections.emptyMap(),
+                data.getAllEquipped(), Set.copyOf(ALL_TYPES))));
+    }
+
+    /** Publish a style-only change (variant, colour) for one slot after PlayerData was updated. */
+    public static void publishStyle(ServerPlayer sp, String type) {
+        if (sp == null) return;
+        PlayerData.get(sp).ifPresent(data -> {
+            Map<String, String> now = data.getAllEquipped();
+            fire(new EquipChanged(sp, Cause.STYLE_CHANGE, now, now, Set.of(type)));
+        });
+    }
+
+    private static void fire(EquipChanged event) {
+        for (Listener l : LISTENERS) {
+            try {
+                l.onEquipChanged(event);
+            } catch (Throwable t) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Equip listener failed for {} ({}): {}",
+                        event.player().getGameProfile().getName(), event.cause(), t.toString());
+            }
+        }
+    }
+}
@@ -43,6 +43,8 @@ final class CosmeticHatLayer extends RenderLayer<AbstractClientPlayer, PlayerMod
     private static final double Y_UP = -0.25D;
     private static final float BASE_SCALE = 0.72F;
 
+    private static final CosmeticsMetrics.Timer RENDER_TIME = CosmeticsMetrics.timer("client.render.hat");
+
     // Simple container for tweak data
     private static final class SkullTweak {
         final double dx, dy, dz;
@@ -119,6 +121,15 @@ final class CosmeticHatLayer extends RenderLayer<AbstractClientPlayer, PlayerMod
         PoseStack pose, MultiBufferSource buf, int light, AbstractClientPlayer player,
         float limbSwing, float limbSwingAmount, float partialTick,
         float ageInTicks, float netHeadYaw, float headPitch) {
+        long start = System.nanoTime();
+        renderHat(pose, buf, light, player, limbSwing, limbSwingAmount, partialTick, ageInTicks, netHeadYaw, headPitch);
+        RENDER_TIME.recordSince(start);
+    }
+
+    private void renderHat(
+        PoseStack pose, MultiBufferSource buf, int light, AbstractClientPlayer player,
+        float limbSwing, float limbSwingAmount, float partialTick,
+        float ageInTicks, float netHeadYaw, float headPitch) {
 
         if (player.isInvisible()) return;
 
@@ -1,13 +1,18 @@
 package com.pastlands.cosmeticslite;
 
+import com.pastlands.cosmeticslite.network.NetTelemetry;
 import com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
-import net.minecraftforge.network.PacketDistributor;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Server-side broadcaster for cosmetic particle effects.
@@ -16,6 +21,9 @@ import net.minecraftforge.network.PacketDistributor;
  * finds viewers within range, and sends S2C_CosmeticParticleEmit packets to those viewers.</p>
  * 
  * <p>This makes particles visible to all nearby players, with the server as the source of truth.</p>
+ *
+ * <p>Equipped particle ids are cached from {@link CosmeticEquipEvents}; PlayerData is only re-read
+ * on a slow resync cadence as a safety net.</p>
  */
 @Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public final class CosmeticParticleBroadcaster {
@@ -50,6 +58,38 @@ public final class CosmeticParticleBroadcaster {
      */
     private static final int MAX_LAYERS_PER_EMITTER = 3;
 
+    /** Safety-net cadence for re-reading PlayerData (every 10s at 20 TPS). */
+    private static final int RESYNC_PERIOD_TICKS = 200;
+
+    /** Emitter UUID -> equipped particle cosmetic id, fed by equip-change events. */
+    private static final Map<UUID, ResourceLocation> EQUIPPED = new ConcurrentHashMap<>();
+
+    private static final CosmeticsMetrics.Timer TICK_TIME = CosmeticsMetrics.timer("server.particles.tick");
+    private static final CosmeticsMetrics.Counter EMITS = CosmeticsMetrics.counter("server.particles.emits");
+
+    static {
+        CosmeticsMetrics.gauge("server.particles.emitters", EQUIPPED::size);
+    }
+
+    /** Equip-change listener (registered in CosmeticsLite). */
+    public static void onEquipChanged(CosmeticEquipEvents.EquipChanged event) {
+        if (!event.touched(PlayerData.TYPE_PARTICLES)) return;
+        cache(event.player().getUUID(), event.currentId(PlayerData.TYPE_PARTICLES));
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        EQUIPPED.remove(event.getEntity().getUUID());
+    }
+
+    private static void cache(UUID playerId, ResourceLocation particleId) {
+        if (particleId == null || isAir(particleId)) {
+            EQUIPPED.remove(playerId);
+        } else {
+            EQUIPPED.put(playerId, particleId);
+        }
+    }
+
     @SubscribeEvent
     public static void onServerTick(TickEvent.ServerTickEvent event) {
         if (event.phase != TickEvent.Phase.END) return;
@@ -57,58 +97,62 @@ public final class CosmeticParticleBroadcaster {
         // Only run on the configured cadence
         if (event.getServer().getTickCount() % TICK_CADENCE != 0) return;
 
+        boolean resync = event.getServer().getTickCount() % RESYNC_PERIOD_TICKS == 0;
+
         // Iterate all server levels
+        long start = System.nanoTime();
         for (ServerLevel level : event.getServer().getAllLevels()) {
-            broadcastParticlesForLevel(level);
+            broadcastParticlesForLevel(level, resync);
         }
+        TICK_TIME.recordSince(start);
     }
 
-    private static void broadcastParticlesForLevel(ServerLevel level) {
+    private static void broadcastParticlesForLevel(ServerLevel level, boolean resync) {
         // Iterate all players in this level (emitters)
         for (ServerPlayer emitter : level.players()) {
             // Skip if player is spectator or invisible (optional optimization)
             if (emitter.isSpectator() || emitter.isInvisible()) continue;
 
-            // Get active particle cosmetic from server-authoritative PlayerData
-            PlayerData.get(emitter).ifPresent(data -> {
-                ResourceLocation particleCosmeticId = data.getEquippedParticlesId();
+            // Safety net: refresh the event-fed cache from server-authoritative PlayerData
+            if (resync) {
+                PlayerData.get(emitter).ifPresent(data -> cache(emitter.getUUID(), data.getEquippedParticlesId()));
+            }
+
+            ResourceLocation particleCosmeticId = EQUIPPED.get(emitter.getUUID());
+
+            // Skip if no particle cosmetic is equipped
+            if (particleCosmeticId == null) continue;
+
+            // Find all viewers within range
+            for (ServerPlayer viewer : level.players()) {
+                // Skip self (emitter sees their own particles via local client renderer)
+                if (viewer == emitter) continue;
                 
-                // Skip if no particle cosmetic is equipped
-                if (particleCosmeticId == null || isAir(particleCosmeticId)) return;
+                // Skip if viewer is spectator
+                if (viewer.isSpectator()) continue;
+
+                // Distance check (squared distance to avoid sqrt)
+                double dx = emitter.getX() - viewer.getX();
+                double dy = emitter.getY() - viewer.getY();
+                double dz = emitter.getZ() - viewer.getZ();
+                double distSq = dx * dx + dy * dy + dz * dz;
 
-                // Find all viewers within range
-                for (ServerPlayer viewer : level.players()) {
-                    // Skip self (emitter sees their own particles via local client renderer)
-                    if (viewer == emitter) continue;
+                if (distSq <= VIEW_RANGE_SQUARED) {
+                    // Generate a consistent seed for this emitter-viewer pair
+                    // This makes patterns consistent per viewer (optional feature)
+                    int seed = generateSeed(emitter.getId(), viewer.getId());
                     
-                    // Skip if viewer is spectator
-                    if (viewer.isSpectator()) continue;
-
-                    // Distance check (squared distance to avoid sqrt)
-                    double dx = emitter.getX() - viewer.getX();
-                    double dy = emitter.getY() - viewer.getY();
-                    double dz = emitter.getZ() - viewer.getZ();
-                    double distSq = dx * dx + dy * dy + dz * dz;
-
-                    if (distSq <= VIEW_RANGE_SQUARED) {
-                        // Generate a consistent seed for this emitter-viewer pair
-                        // This makes patterns consistent per viewer (optional feature)
-                        int seed = generateSeed(emitter.getId(), viewer.getId());
-                        
-                        // Send packet to viewer
-                        CosmeticsLite.NETWORK.send(
-                                PacketDistributor.PLAYER.with(() -> viewer),
-                                new S2CCosmeticParticleEmit(
-                                        emitter.getId(),
-                                        particleCosmeticId,
-                                        (byte) 0, // flags (can be enhanced later)
-                                        seed,
-                                        1.0f // strength (can be enhanced later)
-                                )
-                        );
-                    }
+                    // Send packet to viewer
+                    EMITS.increment();
+                    NetTelemetry.sendTo(viewer, new S2CCosmeticParticleEmit(
+                            emitter.getId(),
+                            particleCosmeticId,
+                            (byte) 0, // flags (can be enhanced later)
+                            seed,
+                            1.0f // strength (can be enhanced later)
+                    ));
                 }
-            });
+            }
         }
     }
 
@@ -212,6 +212,8 @@ public class CosmeticsChestScreen extends Screen {
     protected void init() {
         super.init();
         ensureRegistryPrimedAtInit();
+        // Particle catalog loads on demand; the grid refreshes via onCatalogSynced()
+        CosmeticParticleClientCatalog.ensureSlot(CosmeticParticleEntry.Slot.AURA);
 
         left   = (this.width  - GUI_WIDTH)  / 2;
         top    = (this.height - GUI_HEIGHT) / 2;
@@ -947,6 +949,13 @@ public class CosmeticsChestScreen extends Screen {
         return -1;
     }
 
+    /** Catalog slice arrived while open: refresh the particles grid if it is showing. */
+    public void onCatalogSynced() {
+        if (!"particles".equals(state.getActiveType())) return;
+        rebuildGrid();
+        updateActionButtons();
+    }
+
     public void updateActionButtons() {
         if (equipBtn == null || unequipBtn == null || clearBtn == null) return;
 
@@ -1063,6 +1072,15 @@ public class CosmeticsChestScreen extends Screen {
 
     @Override public boolean isPauseScreen() { return false; }
 
+    @Override
+    public void removed() {
+        // Don't leave a debounced click behind when the menu closes
+        PacketEquipRequest.flushClient(true);
+        // Preview pets are pooled only while the menu is open
+        PetRenderLayer.cleanupAll();
+        super.removed();
+    }
+
     // ========================================================================
     // Tick & Render
     // ========================================================================
@@ -1071,6 +1089,8 @@ public class CosmeticsChestScreen extends Screen {
     @Override
     public void tick() {
         super.tick();
+        // Debounced equip clicks: send the newest per slot once the cooldown passes
+        PacketEquipRequest.flushClient(false);
         if (particlePane != null) particlePane.tick();
         if (mannequinPane != null) mannequinPane.tick();
 
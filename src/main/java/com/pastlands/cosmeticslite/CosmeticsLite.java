@@ -4,11 +4,13 @@ package com.pastlands.cosmeticslite;
 import com.mojang.logging.LogUtils;
 import com.pastlands.cosmeticslite.entity.PetEntities;
 import com.pastlands.cosmeticslite.entity.PetManager;
+import com.pastlands.cosmeticslite.network.NetTelemetry;
 import com.pastlands.cosmeticslite.network.PacketSetPetColor;
 import com.pastlands.cosmeticslite.network.PacketSetPetVariant;
 import com.pastlands.cosmeticslite.network.S2CEntitlementsSync;
 import com.pastlands.cosmeticslite.network.S2CEquipDenied;
 import com.pastlands.cosmeticslite.network.SyncCosmeticsAccessPacket;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import java.util.Optional;
@@ -25,14 +27,17 @@ import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkRegistry;
-import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 import com.pastlands.cosmeticslite.permission.CosmeticsPermissionNodes;
 import net.minecraftforge.server.permission.nodes.PermissionNode;
 import org.slf4j.Logger;
 
 import java.util.Collections;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /** Mod entrypoint. */
 @Mod(CosmeticsLite.MODID)
@@ -47,7 +52,7 @@ public class CosmeticsLite {
     public static final boolean DEBUG_SYNC = false;
 
     // ---- Networking ----
-    private static final String NET_VERSION = "1";
+    private static final String NET_VERSION = "10";
     public static final SimpleChannel NETWORK = NetworkRegistry.newSimpleChannel(
             ResourceLocation.fromNamespaceAndPath(MODID, "main"),
             () -> NET_VERSION,
@@ -58,6 +63,25 @@ public class CosmeticsLite {
     private static int NEXT_ID = 0;
     private static int id() { return NEXT_ID++; }
 
+    /** {@code NETWORK.registerMessage} with the codec wrapped for {@link NetTelemetry}. */
+    private static <T> void register(Class<T> type,
+                                     BiConsumer<T, FriendlyByteBuf> encoder,
+                                     Function<FriendlyByteBuf, T> decoder,
+                                     BiConsumer<T, Supplier<NetworkEvent.Context>> handler,
+                                     Optional<NetworkDirection> direction) {
+        NETWORK.registerMessage(id(), type,
+                NetTelemetry.encoder(type, encoder),
+                NetTelemetry.decoder(type, decoder),
+                handler, direction);
+    }
+
+    private static <T> void register(Class<T> type,
+                                     BiConsumer<T, FriendlyByteBuf> encoder,
+                                     Function<FriendlyByteBuf, T> decoder,
+                                     BiConsumer<T, Supplier<NetworkEvent.Context>> handler) {
+        register(type, encoder, decoder, handler, Optional.empty());
+    }
+
     // ---- Permissions ----
     // Use registered nodes from CosmeticsPermissionNodes
     public static final PermissionNode<Boolean> PERM_MENU = CosmeticsPermissionNodes.MENU;
@@ -83,6 +107,7 @@ public CosmeticsLite() {
     MinecraftForge.EVENT_BUS.register(this);
 
     registerPackets();
+    registerEquipListeners();
 
     // ✅ Ensure registry fully populated before dev seed
     if (CosmeticsRegistry.all().isEmpty()) {
@@ -101,153 +126,262 @@ public CosmeticsLite() {
     // Packets
     // --------------------------------------------------------------------------------------------
     private static void registerPackets() {
-        NETWORK.registerMessage(
-                id(), PacketEquipRequest.class,
+        register(
+                PacketEquipRequest.class,
                 PacketEquipRequest::encode, PacketEquipRequest::decode, PacketEquipRequest::handle
         );
-        NETWORK.registerMessage(
-                id(), PacketSyncCosmetics.class,
+        register(
+                PacketSyncCosmetics.class,
                 PacketSyncCosmetics::encode, PacketSyncCosmetics::decode, PacketSyncCosmetics::handle
         );
-        NETWORK.registerMessage(
-                id(), OpenCosmeticsScreenPacket.class,
+        register(
+                OpenCosmeticsScreenPacket.class,
                 OpenCosmeticsScreenPacket::encode, OpenCosmeticsScreenPacket::decode, OpenCosmeticsScreenPacket::handle
         );
-        NETWORK.registerMessage(
-                id(), SyncCosmeticsAccessPacket.class,
+        register(
+                SyncCosmeticsAccessPacket.class,
                 SyncCosmeticsAccessPacket::encode,
                 SyncCosmeticsAccessPacket::decode,
                 SyncCosmeticsAccessPacket::handle
         );
         // 🔹 PET color wheel UI -> server
-        NETWORK.registerMessage(
-                id(), PacketSetPetColor.class,
+        register(
+                PacketSetPetColor.class,
                 PacketSetPetColor::encode,
                 PacketSetPetColor::decode,
                 PacketSetPetColor::handle
         );
         // 🔹 PET variant dropdown -> server
-        NETWORK.registerMessage(
-                id(), PacketSetPetVariant.class,
+        register(
+                PacketSetPetVariant.class,
                 PacketSetPetVariant::encode,
                 PacketSetPetVariant::decode,
                 PacketSetPetVariant::handle
         );
         // 🔹 NEW: Entitlements snapshot (server -> client)
-        NETWORK.registerMessage(
-                id(), S2CEntitlementsSync.class,
+        register(
+                S2CEntitlementsSync.class,
                 S2CEntitlementsSync::encode,
                 S2CEntitlementsSync::decode,
                 S2CEntitlementsSync::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
 		// 🔹 Denied equip feedback (server -> client)
-        NETWORK.registerMessage(
-                id(), S2CEquipDenied.class,
+        register(
+                S2CEquipDenied.class,
                 S2CEquipDenied::encode,
                 S2CEquipDenied::decode,
                 S2CEquipDenied::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
         // 🔹 Particle definitions sync (server -> client)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket.class,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket::encode,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket::decode,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
         // 🔹 Particle Lab delete (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.ParticleLabDeletePacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.ParticleLabDeletePacket.class,
                 com.pastlands.cosmeticslite.network.ParticleLabDeletePacket::encode,
                 com.pastlands.cosmeticslite.network.ParticleLabDeletePacket::decode,
                 com.pastlands.cosmeticslite.network.ParticleLabDeletePacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Particle definition change (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.ParticleDefinitionChangePacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.ParticleDefinitionChangePacket.class,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionChangePacket::encode,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionChangePacket::decode,
                 com.pastlands.cosmeticslite.network.ParticleDefinitionChangePacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Particle preview mode (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.ParticlePreviewPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.ParticlePreviewPacket.class,
                 com.pastlands.cosmeticslite.network.ParticlePreviewPacket::encode,
                 com.pastlands.cosmeticslite.network.ParticlePreviewPacket::decode,
                 com.pastlands.cosmeticslite.network.ParticlePreviewPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Publish cosmetic (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.PublishCosmeticPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.PublishCosmeticPacket.class,
                 com.pastlands.cosmeticslite.network.PublishCosmeticPacket::encode,
                 com.pastlands.cosmeticslite.network.PublishCosmeticPacket::decode,
                 com.pastlands.cosmeticslite.network.PublishCosmeticPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Cosmetic particles catalog sync (server -> client)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket.class,
                 com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket::encode,
                 com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket::decode,
                 com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
         // 🔹 Mini-game hub access request (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.OpenMiniGameHubPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.OpenMiniGameHubPacket.class,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubPacket::encode,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubPacket::decode,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Mini-game hub access granted (server -> client)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.OpenMiniGameHubResponsePacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.OpenMiniGameHubResponsePacket.class,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubResponsePacket::encode,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubResponsePacket::decode,
                 com.pastlands.cosmeticslite.network.OpenMiniGameHubResponsePacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
         // 🔹 Particle Lab access request (client -> server)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.OpenParticleLabPacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.OpenParticleLabPacket.class,
                 com.pastlands.cosmeticslite.network.OpenParticleLabPacket::encode,
                 com.pastlands.cosmeticslite.network.OpenParticleLabPacket::decode,
                 com.pastlands.cosmeticslite.network.OpenParticleLabPacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_SERVER)
         );
         // 🔹 Particle Lab access granted (server -> client)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.OpenParticleLabResponsePacket.class,
+        register(
+                com.pastlands.cosmeticslite.network.OpenParticleLabResponsePacket.class,
                 com.pastlands.cosmeticslite.network.OpenParticleLabResponsePacket::encode,
                 com.pastlands.cosmeticslite.network.OpenParticleLabResponsePacket::decode,
                 com.pastlands.cosmeticslite.network.OpenParticleLabResponsePacket::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
         // 🔹 Cosmetic particle emit (server -> client)
-        NETWORK.registerMessage(
-                id(), com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit.class,
+        register(
+                com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit.class,
                 com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit::encode,
                 com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit::decode,
                 com.pastlands.cosmeticslite.network.S2CCosmeticParticleEmit::handle,
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
+        // 🔹 Equip delta: changed slots only (server -> client)
+        register(
+                PacketSyncCosmeticsDelta.class,
+                PacketSyncCosmeticsDelta::encode,
+                PacketSyncCosmeticsDelta::decode,
+                PacketSyncCosmeticsDelta::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Session id palette: table on first level join, additions afterwards (server -> client)
+        register(
+                com.pastlands.cosmeticslite.network.S2CIdPalette.class,
+                com.pastlands.cosmeticslite.network.S2CIdPalette::encode,
+                com.pastlands.cosmeticslite.network.S2CIdPalette::decode,
+                com.pastlands.cosmeticslite.network.S2CIdPalette::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Login sync: client hello with held section hashes (client -> server) ...
+        register(
+                com.pastlands.cosmeticslite.network.C2SLoginSyncHello.class,
+                com.pastlands.cosmeticslite.network.C2SLoginSyncHello::encode,
+                com.pastlands.cosmeticslite.network.C2SLoginSyncHello::decode,
+                com.pastlands.cosmeticslite.network.C2SLoginSyncHello::handle,
+                Optional.of(NetworkDirection.PLAY_TO_SERVER)
+        );
+        // ... answered by one bundled, hash-skippable login packet (server -> client)
+        register(
+                com.pastlands.cosmeticslite.network.S2CLoginBundle.class,
+                com.pastlands.cosmeticslite.network.S2CLoginBundle::encode,
+                com.pastlands.cosmeticslite.network.S2CLoginBundle::decode,
+                com.pastlands.cosmeticslite.network.S2CLoginBundle::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Definition bodies missing from the client disk cache: request / reply
+        register(
+                com.pastlands.cosmeticslite.network.C2SParticleDefinitionsRequest.class,
+                com.pastlands.cosmeticslite.network.C2SParticleDefinitionsRequest::encode,
+                com.pastlands.cosmeticslite.network.C2SParticleDefinitionsRequest::decode,
+                com.pastlands.cosmeticslite.network.C2SParticleDefinitionsRequest::handle,
+                Optional.of(NetworkDirection.PLAY_TO_SERVER)
+        );
+        register(
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionBodies.class,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionBodies::encode,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionBodies::decode,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionBodies::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Particle Lab save/delete: single-definition upserts/deletes (server -> client)
+        register(
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionDelta.class,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionDelta::encode,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionDelta::decode,
+                com.pastlands.cosmeticslite.network.S2CParticleDefinitionDelta::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Chunked carrier for large payloads (server -> client), see ChunkedTransfer
+        register(
+                com.pastlands.cosmeticslite.network.S2CPayloadChunk.class,
+                com.pastlands.cosmeticslite.network.S2CPayloadChunk::encode,
+                com.pastlands.cosmeticslite.network.S2CPayloadChunk::decode,
+                com.pastlands.cosmeticslite.network.S2CPayloadChunk::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Lazy particle catalog: stamp broadcast + per-slot fetch, see CatalogSync
+        register(
+                com.pastlands.cosmeticslite.network.S2CCatalogStamp.class,
+                com.pastlands.cosmeticslite.network.S2CCatalogStamp::encode,
+                com.pastlands.cosmeticslite.network.S2CCatalogStamp::decode,
+                com.pastlands.cosmeticslite.network.S2CCatalogStamp::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        register(
+                com.pastlands.cosmeticslite.network.C2SCatalogRequest.class,
+                com.pastlands.cosmeticslite.network.C2SCatalogRequest::encode,
+                com.pastlands.cosmeticslite.network.C2SCatalogRequest::decode,
+                com.pastlands.cosmeticslite.network.C2SCatalogRequest::handle,
+                Optional.of(NetworkDirection.PLAY_TO_SERVER)
+        );
+        // 🔹 Start-tracking: several equip snapshots per viewer in one packet (server -> client)
+        register(
+                PacketSyncCosmeticsBatch.class,
+                PacketSyncCosmeticsBatch::encode,
+                PacketSyncCosmeticsBatch::decode,
+                PacketSyncCosmeticsBatch::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        // 🔹 Entitlements: versioned deltas + client acks, see EntitlementSync
+        register(
+                com.pastlands.cosmeticslite.network.S2CEntitlementsDelta.class,
+                com.pastlands.cosmeticslite.network.S2CEntitlementsDelta::encode,
+                com.pastlands.cosmeticslite.network.S2CEntitlementsDelta::decode,
+                com.pastlands.cosmeticslite.network.S2CEntitlementsDelta::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+        register(
+                com.pastlands.cosmeticslite.network.C2SEntitlementsAck.class,
+                com.pastlands.cosmeticslite.network.C2SEntitlementsAck::encode,
+                com.pastlands.cosmeticslite.network.C2SEntitlementsAck::decode,
+                com.pastlands.cosmeticslite.network.C2SEntitlementsAck::handle,
+                Optional.of(NetworkDirection.PLAY_TO_SERVER)
+        );
+
+    }
 
+    // --------------------------------------------------------------------------------------------
+    // Equip-change observers (server side)
+    // --------------------------------------------------------------------------------------------
+    private static void registerEquipListeners() {
+        // Order matters: clients get the snapshot before pets/broadcaster react.
+        CosmeticEquipEvents.register(CosmeticsSync::onEquipChanged);
+        CosmeticEquipEvents.register(PetManager::onEquipChanged);
+        CosmeticEquipEvents.register(CosmeticParticleBroadcaster::onEquipChanged);
     }
 
-    /** Helper: send current entitlements snapshot to a single player. */
+    /**
+     * Helper: bring a single player's entitlements up to date (immediate; see {@link SyncCoalescer}).
+     * Sends a delta against the client's acknowledged version when possible.
+     */
     public static void sendEntitlements(ServerPlayer sp) {
-        if (sp == null) return;
-        PlayerEntitlements.get(sp).ifPresent(cap -> {
-            NETWORK.send(PacketDistributor.PLAYER.with(() -> sp),
-                    new S2CEntitlementsSync(cap.allPacks(), cap.allCosmetics()));
-        });
-		
+        com.pastlands.cosmeticslite.network.EntitlementSync.send(sp);
     }
 
     // --------------------------------------------------------------------------------------------
@@ -289,12 +423,10 @@ public CosmeticsLite() {
         
         // Initialize cosmetic particle catalog on server startup
         com.pastlands.cosmeticslite.network.PublishCosmeticPacket.initializeServerCatalog();
-        // Sync catalog to all connected players (if any)
-        com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket syncPacket = 
-            new com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket(
-                com.pastlands.cosmeticslite.network.PublishCosmeticPacket.getCatalog().all()
-            );
-        NETWORK.send(net.minecraftforge.network.PacketDistributor.ALL.noArg(), syncPacket);
+        // Seed the session id palette from the registry snapshot
+        com.pastlands.cosmeticslite.network.IdPalette.refreshFromRegistries();
+        // Announce the catalog stamp to connected players (if any); entries load on demand
+        com.pastlands.cosmeticslite.network.CatalogSync.onCatalogChanged();
         
         // Sync particle definitions to all connected players
         java.util.Map<net.minecraft.resources.ResourceLocation, com.pastlands.cosmeticslite.particle.config.ParticleDefinition> allDefs = new java.util.HashMap<>();
@@ -303,46 +435,60 @@ public CosmeticsLite() {
         }
         com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket defSyncPacket = 
             new com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket(allDefs);
-        NETWORK.send(net.minecraftforge.network.PacketDistributor.ALL.noArg(), defSyncPacket);
+        com.pastlands.cosmeticslite.network.ChunkedTransfer.sendToAll(defSyncPacket);
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(net.minecraftforge.event.server.ServerStoppedEvent event) {
+        com.pastlands.cosmeticslite.network.IdPalette.resetServer();
+    }
+
+    /**
+     * First level join of a connection: send the id palette table. This fires before the player
+     * is added to the entity manager, so it precedes every start-tracking sync and the login batch.
+     */
+    @SubscribeEvent
+    public void onEntityJoinLevel(net.minecraftforge.event.entity.EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof ServerPlayer sp) {
+            com.pastlands.cosmeticslite.network.IdPalette.prime(sp);
+        }
     }
 
     @SubscribeEvent
     public void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof ServerPlayer sp) {
-            CosmeticsSync.sync(sp);
-            CosmeticCommand.sendAccessSync(sp);
-            sendEntitlements(sp); // NEW: push entitlements on login
-            sp.level().getServer().execute(() -> PetManager.updatePlayerPet(sp));
-            // Sync particle definitions on login
-            sendParticleDefinitions(sp);
-            // Sync cosmetic particle catalog on login
-            com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket catalogSync = 
-                new com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket(
-                    com.pastlands.cosmeticslite.network.PublishCosmeticPacket.getCatalog().all()
-                );
-            NETWORK.send(PacketDistributor.PLAYER.with(() -> sp), catalogSync);
+            // Broadcaster seed (pets run their own login warm-up in PetManager).
+            // Equip, access, entitlements, definitions and catalog go out as one S2CLoginBundle
+            // once the client says hello with the section hashes it still holds (or, if no hello
+            // arrives, in full after a short timeout).
+            CosmeticEquipEvents.publishRefresh(sp, CosmeticEquipEvents.Cause.LOGIN);
+            com.pastlands.cosmeticslite.network.C2SLoginSyncHello.awaitHello(sp);
         }
     }
     
     /** Helper: send current particle definitions to a single player. */
     public static void sendParticleDefinitions(ServerPlayer sp) {
         if (sp == null) return;
+        sendParticleDefinitions(java.util.List.of(sp));
+    }
+
+    /** Helper: send current particle definitions to several players, encoded once. */
+    public static void sendParticleDefinitions(java.util.Collection<ServerPlayer> players) {
+        if (players.isEmpty()) return;
         java.util.Map<ResourceLocation, com.pastlands.cosmeticslite.particle.config.ParticleDefinition> allDefs = new java.util.HashMap<>();
         for (var def : com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry.all()) {
             allDefs.put(def.id(), def);
         }
         com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket syncPacket = 
             new com.pastlands.cosmeticslite.network.ParticleDefinitionsSyncPacket(allDefs);
-        NETWORK.send(PacketDistributor.PLAYER.with(() -> sp), syncPacket);
+        com.pastlands.cosmeticslite.network.ChunkedTransfer.send(players, syncPacket);
     }
 
     @SubscribeEvent
     public void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
         if (event.getEntity() instanceof ServerPlayer sp) {
-            CosmeticsSync.sync(sp);
-            CosmeticCommand.sendAccessSync(sp);
-            sendEntitlements(sp); // keep in step with other syncs
-            PetManager.updatePlayerPet(sp);
+            // Access + entitlements live per connection on the client; nothing to resend here
+            CosmeticEquipEvents.publishRefresh(sp, CosmeticEquipEvents.Cause.DIMENSION_CHANGE);
         }
     }
 
@@ -367,20 +513,14 @@ public CosmeticsLite() {
         oldP.invalidateCaps();
 
         if (newP instanceof ServerPlayer sp) {
-            CosmeticsSync.sync(sp);
-            CosmeticCommand.sendAccessSync(sp);
-            sendEntitlements(sp);
-            sp.level().getServer().execute(() -> PetManager.updatePlayerPet(sp));
+            CosmeticEquipEvents.publishRefresh(sp, CosmeticEquipEvents.Cause.CLONE);
         }
     }
 
     @SubscribeEvent
     public void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
         if (event.getEntity() instanceof ServerPlayer sp) {
-            CosmeticsSync.sync(sp);
-            CosmeticCommand.sendAccessSync(sp);
-            sendEntitlements(sp);
-            PetManager.updatePlayerPet(sp);
+            CosmeticEquipEvents.publishRefresh(sp, CosmeticEquipEvents.Cause.RESPAWN);
         }
     }
 
@@ -388,6 +528,11 @@ public CosmeticsLite() {
     public void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
         if (event.getEntity() instanceof ServerPlayer sp) {
             PetManager.cleanupPlayer(sp.getUUID());
+            com.pastlands.cosmeticslite.network.IdPalette.forget(sp.getUUID());
+            com.pastlands.cosmeticslite.network.C2SLoginSyncHello.forget(sp.getUUID());
+            com.pastlands.cosmeticslite.network.NetTelemetry.forget(sp.getUUID());
+            com.pastlands.cosmeticslite.network.EntitlementSync.forget(sp.getUUID());
+            com.pastlands.cosmeticslite.network.CatalogSync.forget(sp.getUUID());
         }
     }
 
@@ -396,7 +541,8 @@ public CosmeticsLite() {
         if (!(event.getEntity() instanceof ServerPlayer viewer)) return;
         var target = event.getTarget();
         if (target instanceof ServerPlayer subject) {
-            CosmeticsSync.syncTo(viewer, subject);
+            // Collected for the tick; one batched snapshot per viewer at tick end
+            SyncCoalescer.markTracking(viewer, subject);
             // Intentionally NOT sending entitlements here: they are private to the owner client.
         }
     }
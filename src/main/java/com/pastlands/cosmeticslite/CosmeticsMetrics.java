@@ -0,0 +1,237 @@
+package com.pastlands.cosmeticslite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Always-on metrics for CosmeticsLite hooks: timers (duration histograms), counters and gauges,
+ * looked up by name. Names start with {@code server.} or {@code client.}; both sides share one
+ * registry in singleplayer and reports filter by that prefix.
+ *
+ * <p>Timers keep a log-linear histogram (4 buckets per power of two, so a reported percentile is
+ * within ~12% of the true value) plus count, total and max. Recording is a few atomic adds and
+ * never allocates, so hooks can time every call. Values accumulate until {@link #reset}: server
+ * side via {@code /cosmetics perf reset}, client side on logout.</p>
+ *
+ * <p>Shown by {@code /cosmetics perf} (server) and in the F3 debug text (client, see
+ * {@link ClientPerfOverlay}).</p>
+ */
+public final class CosmeticsMetrics {
+
+    private CosmeticsMetrics() {}
+
+    // --------------------------------------------------------------------------------------------
+    // Metric types
+    // --------------------------------------------------------------------------------------------
+
+    /** Duration histogram in nanoseconds. */
+    public static final class Timer {
+        /** Values below this get one exact bucket each; above, 4 buckets per power of two. */
+        private static final int SUB = 4;
+        /** Covers up to 2^36 ns (~68 s); anything longer lands in the last bucket. */
+        private static final int BUCKETS = 35 * SUB + SUB;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        public void record(long nanos) {
+            if (nanos < 0) nanos = 0;
+            buckets.incrementAndGet(bucket(nanos));
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            if (nanos > maxNanos.get()) maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /** {@link #record} the time since {@code startNanos} (a {@link System#nanoTime()} value). */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public long count() {
+            return count.get();
+        }
+
+        public long maxNanos() {
+            return maxNanos.get();
+        }
+
+        public long totalNanos() {
+            return totalNanos.get();
+        }
+
+        /** Approximate value at quantile {@code q} (0..1), or 0 when empty. */
+        public long percentileNanos(double q) {
+            long n = count.get();
+            if (n == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(q * n));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) return Math.min(midpoint(i), maxNanos.get());
+            }
+            return maxNanos.get();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+            count.set(0);
+            totalNanos.set(0);
+            maxNanos.set(0);
+        }
+
+        private static int bucket(long v) {
+            if (v < SUB) return (int) v;
+            int msb = 63 - Long.numberOfLeadingZeros(v);
+            int sub = (int) (v >>> (msb - 2)) & (SUB - 1);
+            return Math.min((msb - 1) * SUB + sub, BUCKETS - 1);
+        }
+
+        private static long midpoint(int index) {
+            if (index < SUB) return index;
+            int msb = index / SUB + 1;
+            long width = 1L << (msb - 2);
+            return (SUB + (index & (SUB - 1))) * width + width / 2;
+        }
+    }
+
+    /** Monotonic count (until reset). */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long n) {
+            value.add(n);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+
+        void reset() {
+            value.reset();
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Registry
+    // --------------------------------------------------------------------------------------------
+
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private static final long START_MILLIS = System.currentTimeMillis();
+    /** Prefix -> time of its last reset. */
+    private static final Map<String, Long> SINCE_MILLIS = new ConcurrentHashMap<>();
+
+    /** Get or create a timer; keep the result in a static field rather than looking it up per call. */
+    public static Timer timer(String name) {
+        return TIMERS.computeIfAbsent(name, k -> new Timer());
+    }
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, k -> new Counter());
+    }
+
+    /** Register (or replace) a gauge, read only when a report is built. */
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    /** Zero every timer and counter under {@code prefix} (gauges are live values). */
+    public static void reset(String prefix) {
+        TIMERS.forEach((name, t) -> { if (name.startsWith(prefix)) t.reset(); });
+        COUNTERS.forEach((name, c) -> { if (name.startsWith(prefix)) c.reset(); });
+        SINCE_MILLIS.put(prefix, System.currentTimeMillis());
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Reporting
+    // --------------------------------------------------------------------------------------------
+
+    /** Report lines for {@code /cosmetics perf}: every metric under {@code prefix}, by name. */
+    public static List<String> report(String prefix) {
+        List<String> out = new ArrayList<>();
+        double secs = seconds(prefix);
+        out.add(String.format("CosmeticsLite %s metrics over %.0fs:", prefix.replace(".", ""), secs));
+
+        for (Map.Entry<String, Timer> e : sorted(TIMERS, prefix).entrySet()) {
+            Timer t = e.getValue();
+            long n = t.count();
+            if (n == 0) {
+                out.add(String.format("  %s: no samples", shortName(e.getKey(), prefix)));
+                continue;
+            }
+            out.add(String.format("  %s: n=%d (%.1f/s), p50 %s, p99 %s, max %s, total %s",
+                    shortName(e.getKey(), prefix), n, n / secs,
+                    millis(t.percentileNanos(0.50)), millis(t.percentileNanos(0.99)),
+                    millis(t.maxNanos()), millis(t.totalNanos())));
+        }
+        for (Map.Entry<String, Counter> e : sorted(COUNTERS, prefix).entrySet()) {
+            long v = e.getValue().get();
+            out.add(String.format("  %s: %d (%.1f/s)", shortName(e.getKey(), prefix), v, v / secs));
+        }
+        for (Map.Entry<String, LongSupplier> e : sorted(GAUGES, prefix).entrySet()) {
+            out.add(String.format("  %s: %d", shortName(e.getKey(), prefix), readGauge(e.getValue())));
+        }
+        return out;
+    }
+
+    /** Compact lines for the F3 debug text: timers as p50/p99, then gauges. */
+    public static List<String> debugLines(String prefix) {
+        List<String> out = new ArrayList<>();
+        for (Map.Entry<String, Timer> e : sorted(TIMERS, prefix).entrySet()) {
+            Timer t = e.getValue();
+            if (t.count() == 0) continue;
+            out.add(String.format("CosLite %s: p50 %s p99 %s (n=%d)", shortName(e.getKey(), prefix),
+                    millis(t.percentileNanos(0.50)), millis(t.percentileNanos(0.99)), t.count()));
+        }
+        StringBuilder gauges = new StringBuilder();
+        for (Map.Entry<String, LongSupplier> e : sorted(GAUGES, prefix).entrySet()) {
+            gauges.append(gauges.length() == 0 ? "CosLite " : ", ")
+                  .append(shortName(e.getKey(), prefix)).append(' ').append(readGauge(e.getValue()));
+        }
+        if (gauges.length() > 0) out.add(gauges.toString());
+        return out;
+    }
+
+    private static <T> Map<String, T> sorted(Map<String, T> metrics, String prefix) {
+        Map<String, T> out = new TreeMap<>();
+        metrics.forEach((name, m) -> { if (name.startsWith(prefix)) out.put(name, m); });
+        return out;
+    }
+
+    private static long readGauge(LongSupplier gauge) {
+        try {
+            return gauge.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static double seconds(String prefix) {
+        long since = SINCE_MILLIS.computeIfAbsent(prefix, k -> START_MILLIS);
+        return Math.max(1.0, (System.currentTimeMillis() - since) / 1000.0);
+    }
+
+    private static String shortName(String name, String prefix) {
+        return name.substring(prefix.length());
+    }
+
+    private static String millis(long nanos) {
+        double ms = nanos / 1_000_000.0;
+        return ms < 10 ? String.format("%.3fms", ms) : String.format("%.1fms", ms);
+    }
+}
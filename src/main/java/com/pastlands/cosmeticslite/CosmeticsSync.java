@@ -1,9 +1,12 @@
 package com.pastlands.cosmeticslite;
 
+import com.pastlands.cosmeticslite.network.ChunkedTransfer;
+import com.pastlands.cosmeticslite.network.NetTelemetry;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.PacketDistributor;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -11,6 +14,9 @@ import java.util.Map;
  *
  * Sends a compact payload: Map<String, String> (type -> "namespace:path"),
  * tagged with the source player's entityId. Clients store this in a per-entity cache.
+ *
+ * Full snapshots go out in the login bundle and on start-tracking only (batched per viewer); every other change is a
+ * {@link PacketSyncCosmeticsDelta} carrying just the touched slots.
  */
 public final class CosmeticsSync {
 
@@ -24,33 +30,72 @@ public final class CosmeticsSync {
         if (sp == null) return;
 
         PlayerData.get(sp).ifPresent(data -> {
-            Map<String, String> equipped = new HashMap<>(data.getAllEquipped());
+            Map<String, String> equipped = data.getAllEquipped();
             // DEBUG: Log what we're syncing, especially capes (gated behind debug flag)
             if (CosmeticsLite.DEBUG_SYNC) {
                 String capeInSync = equipped.get(PlayerData.TYPE_CAPES);
                 CosmeticsLite.LOGGER.debug("[CosLite] Sync: sending equipped map (size={}), cape={}", 
                         equipped.size(), capeInSync);
             }
-            CosmeticsLite.NETWORK.send(
-                    PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> sp),
-                    new PacketSyncCosmetics(sp.getId(), equipped)
-            );
+            sendTrackingAndSelf(sp, new PacketSyncCosmetics(sp.getId(), equipped));
         });
     }
 
     /**
-     * Send the subject's cosmetic snapshot to a single viewer (used on StartTracking).
+     * Send the subject's cosmetic snapshot to a single viewer. Start-tracking goes through
+     * {@link SyncCoalescer#markTracking} instead, which batches per viewer.
      */
     public static void syncTo(ServerPlayer viewer, ServerPlayer subject) {
         if (viewer == null || subject == null) return;
 
-        PlayerData.get(subject).ifPresent(data -> {
-            Map<String, String> equipped = new HashMap<>(data.getAllEquipped());
-            CosmeticsLite.NETWORK.send(
-                    PacketDistributor.PLAYER.with(() -> viewer),
-                    new PacketSyncCosmetics(subject.getId(), equipped)
-            );
-        });
+        PlayerData.get(subject).ifPresent(data -> NetTelemetry.sendTo(viewer,
+                new PacketSyncCosmetics(subject.getId(), data.getAllEquipped())));
+    }
+
+    /**
+     * Send several subjects' snapshots to one viewer, {@link PacketSyncCosmeticsBatch#MAX_PER_PACKET}
+     * entities per packet.
+     */
+    public static void syncBatchTo(ServerPlayer viewer, List<PacketSyncCosmetics> snapshots) {
+        if (viewer == null || snapshots.isEmpty()) return;
+        for (int i = 0; i < snapshots.size(); i += PacketSyncCosmeticsBatch.MAX_PER_PACKET) {
+            int end = Math.min(snapshots.size(), i + PacketSyncCosmeticsBatch.MAX_PER_PACKET);
+            NetTelemetry.sendTo(viewer, new PacketSyncCosmeticsBatch(snapshots.subList(i, end)));
+        }
+    }
+
+    /**
+     * Send only the given slots (values taken from {@code current}) to ALL tracking clients
+     * and the player themselves.
+     */
+    public static void syncDelta(ServerPlayer sp, Map<String, String> current, Collection<String> types) {
+        if (sp == null) return;
+        PacketSyncCosmeticsDelta delta = PacketSyncCosmeticsDelta.of(sp.getId(), current, types);
+        if (delta.isEmpty()) return;
+        sendTrackingAndSelf(sp, delta);
+    }
+
+    /**
+     * TRACKING_ENTITY_AND_SELF, except that the owner's copy waits behind any chunked payload
+     * still queued for them (the login bundle carries their equip snapshot).
+     */
+    private static void sendTrackingAndSelf(ServerPlayer sp, Object msg) {
+        if (!ChunkedTransfer.hasPending(sp)) {
+            NetTelemetry.send(PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> sp), sp, msg);
+            return;
+        }
+        NetTelemetry.send(PacketDistributor.TRACKING_ENTITY.with(() -> sp), sp, msg);
+        ChunkedTransfer.sendInOrder(sp, msg);
+    }
+
+    /**
+     * Equip-change listener: everything except login is marked dirty and leaves as one delta at
+     * the end of the tick ({@link SyncCoalescer}). On login the owner's snapshot rides in the
+     * login bundle and trackers already got theirs on start-tracking.
+     */
+    static void onEquipChanged(CosmeticEquipEvents.EquipChanged event) {
+        if (event.cause() == CosmeticEquipEvents.Cause.LOGIN) return;
+        SyncCoalescer.markEquip(event.player(), event.touchedTypes());
     }
 
     /** Alias for readability; currently delegates to {@link #sync(ServerPlayer)}. */
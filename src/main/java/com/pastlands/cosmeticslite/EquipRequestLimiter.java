@@ -0,0 +1,127 @@
+package com.pastlands.cosmeticslite;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side intake for {@link PacketEquipRequest}: coalesce per slot, then rate limit.
+ *
+ * Requests are not applied on arrival. Each player keeps the latest request per slot (a clear-all
+ * replaces everything queued before it), and the queue is drained at the end of the server tick.
+ * Applying a request costs one token from a per-player bucket ({@link #BUCKET_CAPACITY} tokens,
+ * one back every {@link #REFILL_TICKS} ticks). Without tokens the requests stay queued and keep
+ * coalescing, so a spam-clicker converges on their last choice at a bounded rate instead of
+ * forcing a permission check, save, tracker sync and pet respawn per click.
+ *
+ * Server thread only.
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class EquipRequestLimiter {
+
+    private EquipRequestLimiter() {}
+
+    /** Burst size: this many equips in a row go through without waiting. */
+    static final int BUCKET_CAPACITY = 6;
+    /** Sustained rate: one equip every this many ticks (4/s). */
+    static final int REFILL_TICKS = 5;
+
+    /** Queue key for a clear-all request. */
+    private static final String CLEAR_ALL = "*";
+
+    private static final class Bucket {
+        int tokens = BUCKET_CAPACITY;
+        long lastRefillTick;
+        /** Slot (or {@link #CLEAR_ALL}) -> latest request, in arrival order. */
+        final LinkedHashMap<String, PacketEquipRequest> pending = new LinkedHashMap<>();
+
+        Bucket(long tick) {
+            this.lastRefillTick = tick;
+        }
+
+        void refill(long tick) {
+            long gained = (tick - lastRefillTick) / REFILL_TICKS;
+            if (gained <= 0) return;
+            tokens = (int) Math.min(BUCKET_CAPACITY, tokens + gained);
+            lastRefillTick = (tokens == BUCKET_CAPACITY) ? tick : lastRefillTick + gained * REFILL_TICKS;
+        }
+    }
+
+    private static final Map<UUID, Bucket> BUCKETS = new HashMap<>();
+
+    private static final CosmeticsMetrics.Timer DRAIN_TIME = CosmeticsMetrics.timer("server.equip.drain");
+
+    /** Queue a request; {@code slot == null} means clear all. */
+    static void submit(ServerPlayer sp, String slot, PacketEquipRequest msg) {
+        Bucket b = BUCKETS.computeIfAbsent(sp.getUUID(), k -> new Bucket(sp.server.getTickCount()));
+        if (slot == null) {
+            // Clear-all supersedes everything queued before it
+            b.pending.clear();
+            b.pending.put(CLEAR_ALL, msg);
+        } else {
+            // Re-insert so the slot moves behind a queued clear-all
+            b.pending.remove(slot);
+            b.pending.put(slot, msg);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || BUCKETS.isEmpty()) return;
+        long start = System.nanoTime();
+        drain(event.getServer());
+        DRAIN_TIME.recordSince(start);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        BUCKETS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        BUCKETS.clear();
+    }
+
+    private static void drain(MinecraftServer server) {
+        long tick = server.getTickCount();
+        Iterator<Map.Entry<UUID, Bucket>> it = BUCKETS.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Bucket> e = it.next();
+            Bucket b = e.getValue();
+            b.refill(tick);
+            if (b.pending.isEmpty()) {
+                if (b.tokens >= BUCKET_CAPACITY) it.remove(); // idle and full: nothing to remember
+                continue;
+            }
+            ServerPlayer sp = server.getPlayerList().getPlayer(e.getKey());
+            if (sp == null) {
+                it.remove();
+                continue;
+            }
+
+            List<PacketEquipRequest> ready = new ArrayList<>();
+            Iterator<PacketEquipRequest> queued = b.pending.values().iterator();
+            while (b.tokens > 0 && queued.hasNext()) {
+                ready.add(queued.next());
+                queued.remove();
+                b.tokens--;
+            }
+            for (PacketEquipRequest msg : ready) {
+                PacketEquipRequest.apply(sp, msg);
+            }
+        }
+    }
+}
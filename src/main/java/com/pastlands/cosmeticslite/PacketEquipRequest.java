@@ -1,6 +1,7 @@
 // src/main/java/com/pastlands/cosmeticslite/PacketEquipRequest.java
 package com.pastlands.cosmeticslite;
 
+import com.pastlands.cosmeticslite.network.NetTelemetry;
 import com.pastlands.cosmeticslite.network.S2CEquipDenied;
 import com.pastlands.cosmeticslite.permission.CosmeticsFeature;
 import com.pastlands.cosmeticslite.permission.CosmeticsPermissions;
@@ -13,13 +14,11 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Supplier;
 
 /**
@@ -30,7 +29,13 @@ import java.util.function.Supplier;
  *  - (type != null && id == AIR) : clear ONLY that type's equipped ID (keep style so it persists)
  *  - (type == null)              : clear ALL types (removes styles too)
  *
- * Server: ALWAYS persists (when allowed) then syncs; pet refresh happens only when pets were touched.
+ * Server: requests are coalesced per slot and rate limited by {@link EquipRequestLimiter}, then
+ * persisted (when allowed) and published as a {@link CosmeticEquipEvents} change; sync always
+ * follows, pet refresh happens only when pets were touched.
+ *
+ * Client: {@link #send} coalesces too. The first click goes out at once; clicks inside the
+ * cooldown only replace the queued request for their slot, and the newest one is sent when the
+ * cooldown ends ({@link #flushClient}), so the last click always reaches the server.
  */
 public final class PacketEquipRequest {
 
@@ -39,8 +44,10 @@ public final class PacketEquipRequest {
     private static final ResourceLocation AIR = ResourceLocation.fromNamespaceAndPath("minecraft", "air");
 
     // client-side debounce state (must exist on both dists to avoid linking errors)
-    private static final Map<UUID, Long> LAST_SENT = new HashMap<>();
     private static final long EQUIP_COOLDOWN_MS = 250L;
+    private static long lastSentMs = 0L;
+    /** Slot (null = clear all) -> newest unsent request, in click order. */
+    private static final Map<String, PacketEquipRequest> CLIENT_PENDING = new LinkedHashMap<>();
 
     // ---------------- payload ----------------
     @Nullable private final String type;       // null => clear all
@@ -78,91 +85,87 @@ public final class PacketEquipRequest {
         return new PacketEquipRequest(t, id, variant, color, style);
     }
 
-    // ---------------- server handle (authoritative, no debounce) ----------------
+    // ---------------- server handle (authoritative; coalesced + rate limited) ----------------
     public static void handle(PacketEquipRequest msg, Supplier<NetworkEvent.Context> ctxSupplier) {
         NetworkEvent.Context ctx = ctxSupplier.get();
         ctx.enqueueWork(() -> {
             ServerPlayer sp = ctx.getSender();
             if (sp == null) return;
+            boolean isClearAll = (msg.type == null || msg.type.isBlank());
+            if (!isClearAll && !VALID_TYPES.contains(msg.type)) return; // unknown type; ignore
+            EquipRequestLimiter.submit(sp, isClearAll ? null : msg.type, msg);
+        });
+        ctx.setPacketHandled(true);
+    }
 
-            PlayerData.get(sp).ifPresent(data -> {
-                final boolean isClearAll  = (msg.type == null || msg.type.isBlank());
-                final boolean isClearType = !isClearAll && isAir(msg.id);
-
-                // entitlement gate (equip only)
-                if (!isClearAll && !isClearType && VALID_TYPES.contains(msg.type)) {
-                    // First check entitlements (existing system)
-                    boolean allowed = isEquipAllowed(sp, msg.type, msg.id);
-                    if (!allowed) {
-                        CosmeticsLite.LOGGER.debug("[CosLite] Denied equip (entitlements): {} -> {} for {}",
-                                msg.type, msg.id, sp.getGameProfile().getName());
-                        CosmeticsLite.NETWORK.send(
-                                PacketDistributor.PLAYER.with(() -> sp),
-                                new S2CEquipDenied(msg.type, msg.id)
-                        );
-                        return;
-                    }
+    /** Apply one request (server thread, called by {@link EquipRequestLimiter}). */
+    static void apply(ServerPlayer sp, PacketEquipRequest msg) {
+        PlayerData.get(sp).ifPresent(data -> {
+            final boolean isClearAll  = (msg.type == null || msg.type.isBlank());
+            final boolean isClearType = !isClearAll && isAir(msg.id);
 
-                    // Then check permissions (rank-based system)
-                    // Use centralized check - only message on user-initiated actions (this is one)
-                    com.pastlands.cosmeticslite.permission.CosmeticsPermissions.PermissionResult permResult = 
-                        checkPermissionForEquipWithReason(sp, msg.type, msg.id);
-                    if (!permResult.allowed()) {
-                        CosmeticDef def = CosmeticsRegistry.get(msg.id);
-                        String reason = (def == null) 
-                            ? "Unknown cosmetic. Please relog or contact staff."
-                            : "You don't have permission to use this cosmetic.";
-                        CosmeticsLite.LOGGER.debug("[CosLite] Denied equip (permissions): {} -> {} for {} (reason: {})",
-                                msg.type, msg.id, sp.getGameProfile().getName(), permResult.reasonCode());
-                        // Only message on user-initiated actions (equip request is one)
-                        sp.sendSystemMessage(Component.literal("§c[CosmeticsLite] " + reason));
-                        CosmeticsLite.NETWORK.send(
-                                PacketDistributor.PLAYER.with(() -> sp),
-                                new S2CEquipDenied(msg.type, msg.id)
-                        );
-                        return;
-                    }
+            // entitlement gate (equip only)
+            if (!isClearAll && !isClearType && VALID_TYPES.contains(msg.type)) {
+                // First check entitlements (existing system)
+                boolean allowed = isEquipAllowed(sp, msg.type, msg.id);
+                if (!allowed) {
+                    CosmeticsLite.LOGGER.debug("[CosLite] Denied equip (entitlements): {} -> {} for {}",
+                            msg.type, msg.id, sp.getGameProfile().getName());
+                    NetTelemetry.sendTo(sp, new S2CEquipDenied(msg.type, msg.id));
+                    return;
                 }
 
-                // --- persist ---
-                if (isClearAll) {
-                    // Full reset: remove ids + styles
-                    // DEBUG: Log cape state before and after clear (gated behind debug flag)
-                    if (CosmeticsLite.DEBUG_SYNC) {
-                        ResourceLocation capeBefore = data.getEquippedCapeId();
-                        CosmeticsLite.LOGGER.debug("[CosLite] ClearAll: cape before={}", capeBefore);
-                        data.clearAll();
-                        ResourceLocation capeAfter = data.getEquippedCapeId();
-                        CosmeticsLite.LOGGER.debug("[CosLite] ClearAll: cape after={}", capeAfter);
-                    } else {
-                        data.clearAll();
-                    }
-                } else if (!VALID_TYPES.contains(msg.type)) {
-                    // Unknown type; ignore
+                // Then check permissions (rank-based system)
+                // Use centralized check - only message on user-initiated actions (this is one)
+                com.pastlands.cosmeticslite.permission.CosmeticsPermissions.PermissionResult permResult = 
+                    checkPermissionForEquipWithReason(sp, msg.type, msg.id);
+                if (!permResult.allowed()) {
+                    CosmeticDef def = CosmeticsRegistry.get(msg.id);
+                    String reason = (def == null) 
+                        ? "Unknown cosmetic. Please relog or contact staff."
+                        : "You don't have permission to use this cosmetic.";
+                    CosmeticsLite.LOGGER.debug("[CosLite] Denied equip (permissions): {} -> {} for {} (reason: {})",
+                            msg.type, msg.id, sp.getGameProfile().getName(), permResult.reasonCode());
+                    // Only message on user-initiated actions (equip request is one)
+                    sp.sendSystemMessage(Component.literal("§c[CosmeticsLite] " + reason));
+                    NetTelemetry.sendTo(sp, new S2CEquipDenied(msg.type, msg.id));
                     return;
-                } else if (isClearType) {
-                    // IMPORTANT: clear ONLY the equipped id, KEEP style (so it persists across re-equip)
-                    data.setEquippedId(msg.type, null);
+                }
+            }
+
+            // --- persist ---
+            Map<String, String> before = data.getAllEquipped();
+            if (isClearAll) {
+                // Full reset: remove ids + styles
+                // DEBUG: Log cape state before and after clear (gated behind debug flag)
+                if (CosmeticsLite.DEBUG_SYNC) {
+                    ResourceLocation capeBefore = data.getEquippedCapeId();
+                    CosmeticsLite.LOGGER.debug("[CosLite] ClearAll: cape before={}", capeBefore);
+                    data.clearAll();
+                    ResourceLocation capeAfter = data.getEquippedCapeId();
+                    CosmeticsLite.LOGGER.debug("[CosLite] ClearAll: cape after={}", capeAfter);
                 } else {
-                    // Equip id + optional style
-                    data.setEquippedId(msg.type, msg.id);
-                    if (msg.variant >= 0)      data.setEquippedVariant(msg.type, msg.variant);
-                    if (msg.colorARGB >= 0)    data.setEquippedColor(msg.type, msg.colorARGB);
-                    if (!msg.style.isEmpty())  data.setEquippedStyleTag(msg.type, msg.style);
+                    data.clearAll();
                 }
+            } else if (!VALID_TYPES.contains(msg.type)) {
+                // Unknown type; ignore
+                return;
+            } else if (isClearType) {
+                // IMPORTANT: clear ONLY the equipped id, KEEP style (so it persists across re-equip)
+                data.setEquippedId(msg.type, null);
+            } else {
+                // Equip id + optional style
+                data.setEquippedId(msg.type, msg.id);
+                if (msg.variant >= 0)      data.setEquippedVariant(msg.type, msg.variant);
+                if (msg.colorARGB >= 0)    data.setEquippedColor(msg.type, msg.colorARGB);
+                if (!msg.style.isEmpty())  data.setEquippedStyleTag(msg.type, msg.style);
+            }
 
-             // sync snapshot to client
-CosmeticsSync.sync(sp);
+            // publish: sync, pets and broadcaster react via CosmeticEquipEvents listeners
+            CosmeticEquipEvents.publish(sp, CosmeticEquipEvents.Cause.EQUIP_REQUEST, before,
+                    isClearAll ? CosmeticEquipEvents.ALL_TYPES : Set.of(msg.type));
 
-// pets touched? refresh once (ensure immediate spawn even if a prior spawn just happened)
-if (isClearAll || "pets".equals(msg.type)) {
-    com.pastlands.cosmeticslite.entity.PetManager.clearSpawnDebounce(sp);
-    com.pastlands.cosmeticslite.entity.PetManager.updatePlayerPet(sp);
-}
-
-            });
         });
-        ctx.setPacketHandled(true);
     }
 
     // ---------------- helpers ----------------
@@ -237,29 +240,47 @@ if (isClearAll || "pets".equals(msg.type)) {
         }
     }
 
-    // ---------------- client send helpers (timestamp debounce) ----------------
+    // ---------------- client send helpers (trailing debounce) ----------------
     @OnlyIn(Dist.CLIENT)
     public static void send(String type, ResourceLocation id, int variant, int colorARGB, @Nullable CompoundTag style) {
         if (!VALID_TYPES.contains(type)) return;
-        if (!clientDebounceOk()) return;
-        CosmeticsLite.NETWORK.sendToServer(new PacketEquipRequest(type, id, variant, colorARGB, style));
+        queueClient(type, new PacketEquipRequest(type, id, variant, colorARGB, style));
     }
 
     @OnlyIn(Dist.CLIENT)
     public static void sendClearAll(ResourceLocation airSentinel) {
-        if (!clientDebounceOk()) return;
-        CosmeticsLite.NETWORK.sendToServer(new PacketEquipRequest(null, airSentinel, -1, -1, new CompoundTag()));
+        queueClient(null, new PacketEquipRequest(null, airSentinel, -1, -1, new CompoundTag()));
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private static void queueClient(@Nullable String type, PacketEquipRequest msg) {
+        if (type == null) {
+            CLIENT_PENDING.clear();
+        } else {
+            CLIENT_PENDING.remove(type);
+        }
+        CLIENT_PENDING.put(type, msg);
+        flushClient(false);
     }
 
+    /**
+     * Send queued requests once the cooldown has passed ({@code force}: right now, e.g. when the
+     * screen closes). Called from the cosmetics screen's tick.
+     */
     @OnlyIn(Dist.CLIENT)
-    private static boolean clientDebounceOk() {
+    public static void flushClient(boolean force) {
+        if (CLIENT_PENDING.isEmpty()) return;
         Minecraft mc = Minecraft.getInstance();
-        if (mc == null || mc.player == null) return false;
-        UUID key = mc.player.getUUID();
+        if (mc.getConnection() == null) {
+            CLIENT_PENDING.clear();
+            return;
+        }
         long now = System.currentTimeMillis();
-        Long last = LAST_SENT.get(key);
-        if (last != null && (now - last) < EQUIP_COOLDOWN_MS) return false;
-        LAST_SENT.put(key, now);
-        return true;
+        if (!force && (now - lastSentMs) < EQUIP_COOLDOWN_MS) return;
+        lastSentMs = now;
+        for (PacketEquipRequest msg : CLIENT_PENDING.values()) {
+            CosmeticsLite.NETWORK.sendToServer(msg);
+        }
+        CLIENT_PENDING.clear();
     }
 }
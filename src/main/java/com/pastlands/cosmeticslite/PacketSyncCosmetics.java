@@ -1,6 +1,7 @@
 package com.pastlands.cosmeticslite;
 
 import net.minecraft.client.Minecraft;
+import com.pastlands.cosmeticslite.network.IdPalette;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.network.NetworkEvent;
@@ -11,6 +12,7 @@ import java.util.function.Supplier;
 
 /**
  * Server -> Client: synchronize a player's equipped cosmetics per category.
+ * Full snapshot, sent on login and start-tracking; later changes use {@link PacketSyncCosmeticsDelta}.
  * Payload:
  *   - int entityId
  *   - Map<String type, String id>
@@ -20,49 +22,57 @@ public final class PacketSyncCosmetics {
     private final int entityId;
     final Map<String, String> equippedByType;
 
+    /** The map is not copied; callers pass a snapshot (e.g. {@link PlayerData#getAllEquipped()}). */
     public PacketSyncCosmetics(int entityId, Map<String, String> equippedByType) {
         this.entityId = entityId;
-        this.equippedByType = new HashMap<>(equippedByType);
+        this.equippedByType = equippedByType;
     }
 
     public static void encode(PacketSyncCosmetics msg, FriendlyByteBuf buf) {
         buf.writeVarInt(msg.entityId);
         buf.writeVarInt(msg.equippedByType.size());
-        msg.equippedByType.forEach((t, id) -> { buf.writeUtf(t); buf.writeUtf(id); });
+        msg.equippedByType.forEach((t, id) -> { buf.writeUtf(t); IdPalette.writeString(buf, id); });
     }
 
     public static PacketSyncCosmetics decode(FriendlyByteBuf buf) {
         int entityId = buf.readVarInt();
         int n = buf.readVarInt();
         Map<String, String> map = new HashMap<>(Math.max(1, n));
-        for (int i = 0; i < n; i++) map.put(buf.readUtf(), buf.readUtf());
+        for (int i = 0; i < n; i++) {
+            String type = buf.readUtf();
+            String id = IdPalette.readString(buf);
+            if (id != null) map.put(type, id);
+        }
         return new PacketSyncCosmetics(entityId, map);
     }
 
     public static void handle(PacketSyncCosmetics msg, Supplier<NetworkEvent.Context> ctxSup) {
         NetworkEvent.Context ctx = ctxSup.get();
-        ctx.enqueueWork(() -> {
-            // DEBUG: Log what we're receiving (gated behind debug flag)
-            if (CosmeticsLite.DEBUG_SYNC) {
-                String capeInPacket = msg.equippedByType.get("capes");
-                CosmeticsLite.LOGGER.debug("[CosLite] Client sync: received equipped map (size={}), cape={}", 
-                        msg.equippedByType.size(), capeInPacket);
-            }
-            
-            // Always update the per-entity cache
-            ClientState.applySync(msg.entityId, msg.equippedByType);
+        ctx.enqueueWork(() -> apply(msg));
+        ctx.setPacketHandled(true);
+    }
 
-            // If this snapshot is for the local player, mirror into the legacy LOCAL cache
-            var mc = Minecraft.getInstance();
-            if (mc.player != null && mc.player.getId() == msg.entityId) {
-                ClientState.applySync(msg.equippedByType);
-                // DEBUG: Log what's in LOCAL after sync (gated behind debug flag)
-                if (CosmeticsLite.DEBUG_SYNC) {
-                    ResourceLocation capeAfterSync = ClientState.getEquippedId("capes");
-                    CosmeticsLite.LOGGER.debug("[CosLite] Client sync: LOCAL cape after sync={}", capeAfterSync);
-                }
+    /** Client main thread: apply the snapshot (also used by the login bundle). */
+    public static void apply(PacketSyncCosmetics msg) {
+        // DEBUG: Log what we're receiving (gated behind debug flag)
+        if (CosmeticsLite.DEBUG_SYNC) {
+            String capeInPacket = msg.equippedByType.get("capes");
+            CosmeticsLite.LOGGER.debug("[CosLite] Client sync: received equipped map (size={}), cape={}", 
+                    msg.equippedByType.size(), capeInPacket);
+        }
+        
+        // Always update the per-entity cache
+        ClientState.applySync(msg.entityId, msg.equippedByType);
+
+        // If this snapshot is for the local player, mirror into the legacy LOCAL cache
+        var mc = Minecraft.getInstance();
+        if (mc.player != null && mc.player.getId() == msg.entityId) {
+            ClientState.applySync(msg.equippedByType);
+            // DEBUG: Log what's in LOCAL after sync (gated behind debug flag)
+            if (CosmeticsLite.DEBUG_SYNC) {
+                ResourceLocation capeAfterSync = ClientState.getEquippedId("capes");
+                CosmeticsLite.LOGGER.debug("[CosLite] Client sync: LOCAL cape after sync={}", capeAfterSync);
             }
-        });
-        ctx.setPacketHandled(true);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.pastlands.cosmeticslite;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client: full equip snapshots for several player entities at once.
+ *
+ * Sent to a viewer at the end of the tick with every player it started tracking during that tick
+ * (see {@link SyncCoalescer#markTracking}), so walking or teleporting into a crowd costs one
+ * packet instead of one per player.
+ * Payload:
+ *   - varint count
+ *   - count x {@link PacketSyncCosmetics} body
+ */
+public final class PacketSyncCosmeticsBatch {
+
+    /** Entities per packet; keeps a very crowded area well under the packet size limit. */
+    public static final int MAX_PER_PACKET = 64;
+
+    private final List<PacketSyncCosmetics> snapshots;
+
+    public PacketSyncCosmeticsBatch(List<PacketSyncCosmetics> snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    public static void encode(PacketSyncCosmeticsBatch msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.snapshots.size());
+        for (PacketSyncCosmetics s : msg.snapshots) PacketSyncCosmetics.encode(s, buf);
+    }
+
+    /** Decoded on the network thread so palette ids resolve in arrival order. */
+    public static PacketSyncCosmeticsBatch decode(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        List<PacketSyncCosmetics> snapshots = new ArrayList<>(Math.min(n, MAX_PER_PACKET));
+        for (int i = 0; i < n; i++) snapshots.add(PacketSyncCosmetics.decode(buf));
+        return new PacketSyncCosmeticsBatch(snapshots);
+    }
+
+    public static void handle(PacketSyncCosmeticsBatch msg, Supplier<NetworkEvent.Context> ctxSup) {
+        NetworkEvent.Context ctx = ctxSup.get();
+        ctx.enqueueWork(() -> {
+            for (PacketSyncCosmetics s : msg.snapshots) PacketSyncCosmetics.apply(s);
+        });
+        ctx.setPacketHandled(true);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pastlands.cosmeticslite;
+
+import com.pastlands.cosmeticslite.network.IdPalette;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client: incremental equip change for one player entity.
+ *
+ * Only the changed slots travel; the full {@link PacketSyncCosmetics} snapshot is reserved
+ * for login and start-tracking.
+ * Payload:
+ *   - varint entityId
+ *   - byte   count
+ *   - count x { byte slot ordinal (index in {@link PlayerData#TYPES}), bool present, [palette id] }
+ */
+public final class PacketSyncCosmeticsDelta {
+
+    /** One changed slot; id == null means the slot was cleared. */
+    public record Change(int slot, @Nullable ResourceLocation id) {}
+
+    private final int entityId;
+    private final List<Change> changes;
+
+    public PacketSyncCosmeticsDelta(int entityId, List<Change> changes) {
+        this.entityId = entityId;
+        this.changes = changes;
+    }
+
+    /** Build a delta for the given types from an after-change equipped map (type -> id string). */
+    public static PacketSyncCosmeticsDelta of(int entityId, Map<String, String> current, Collection<String> types) {
+        List<Change> changes = new ArrayList<>(types.size());
+        for (String type : types) {
+            int slot = PlayerData.TYPES.indexOf(type);
+            if (slot < 0) continue;
+            String s = current.get(type);
+            changes.add(new Change(slot, (s == null || s.isEmpty()) ? null : ResourceLocation.tryParse(s)));
+        }
+        return new PacketSyncCosmeticsDelta(entityId, changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    // ---------------- codec ----------------
+    public static void encode(PacketSyncCosmeticsDelta msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.entityId);
+        buf.writeByte(msg.changes.size());
+        for (Change c : msg.changes) {
+            buf.writeByte(c.slot());
+            buf.writeBoolean(c.id() != null);
+            if (c.id() != null) IdPalette.write(buf, c.id());
+        }
+    }
+
+    public static PacketSyncCosmeticsDelta decode(FriendlyByteBuf buf) {
+        int entityId = buf.readVarInt();
+        int n = buf.readUnsignedByte();
+        List<Change> changes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int slot = buf.readUnsignedByte();
+            boolean present = buf.readBoolean();
+            ResourceLocation id = present ? IdPalette.read(buf) : null;
+            // Present but unresolvable (unknown palette index): leave the slot untouched
+            if (present && id == null) continue;
+            changes.add(new Change(slot, id));
+        }
+        return new PacketSyncCosmeticsDelta(entityId, changes);
+    }
+
+    // ---------------- client handle ----------------
+    public static void handle(PacketSyncCosmeticsDelta msg, Supplier<NetworkEvent.Context> ctxSup) {
+        NetworkEvent.Context ctx = ctxSup.get();
+        ctx.enqueueWork(() -> {
+            var mc = Minecraft.getInstance();
+            boolean local = mc.player != null && mc.player.getId() == msg.entityId;
+            for (Change c : msg.changes) {
+                // Unknown ordinals come from a newer server; ignore them rather than fail
+                if (c.slot() >= PlayerData.TYPES.size()) continue;
+                String type = PlayerData.TYPES.get(c.slot());
+                ClientState.applyDelta(msg.entityId, type, c.id());
+                if (local) ClientState.set(type, c.id());
+            }
+            if (CosmeticsLite.DEBUG_SYNC) {
+                CosmeticsLite.LOGGER.debug("[CosLite] Client delta: entity={} changes={}", msg.entityId, msg.changes);
+            }
+        });
+        ctx.setPacketHandled(true);
+    }
+}
@@ -20,8 +20,8 @@ import net.minecraft.world.entity.animal.Chicken;
 import net.minecraft.world.entity.animal.Wolf;
 import net.minecraft.world.level.Level;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Pet render layer that displays cosmetic pets near the GUI mannequin ONLY.
@@ -34,8 +34,24 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class PetRenderLayer extends RenderLayer<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> {
 
-    // Cache preview-only pet entities per mannequin player to avoid constant recreation
-    private static final Map<AbstractClientPlayer, Entity> PET_CACHE = new ConcurrentHashMap<>();
+    /** Preview entities kept at once; scrolling the Pets tab cycles through a few types. */
+    private static final int POOL_CAP = 6;
+
+    /**
+     * Preview-only pet entities by type, least recently used first. Shared across mannequin
+     * players and type switches so flipping through pets reuses entities instead of building one
+     * per click; emptied when the cosmetics screen closes. Render thread only.
+     */
+    private static final Map<EntityType<?>, Entity> POOL = new LinkedHashMap<>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EntityType<?>, Entity> eldest) {
+            if (size() <= POOL_CAP) return false;
+            eldest.getValue().discard();
+            return true;
+        }
+    };
+
+    private static final CosmeticsMetrics.Timer RENDER_TIME = CosmeticsMetrics.timer("client.render.pet");
 
     public PetRenderLayer(RenderLayerParent<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> parent) {
         super(parent);
@@ -45,17 +61,25 @@ public class PetRenderLayer extends RenderLayer<AbstractClientPlayer, PlayerMode
     public void render(PoseStack poseStack, MultiBufferSource bufferSource, int packedLight,
                        AbstractClientPlayer player, float limbSwing, float limbSwingAmount,
                        float partialTick, float ageInTicks, float netHeadYaw, float headPitch) {
+        long start = System.nanoTime();
+        renderPreviewPet(poseStack, bufferSource, packedLight, player, limbSwing, limbSwingAmount,
+                partialTick, ageInTicks, netHeadYaw, headPitch);
+        RENDER_TIME.recordSince(start);
+    }
+
+    private void renderPreviewPet(PoseStack poseStack, MultiBufferSource bufferSource, int packedLight,
+                                  AbstractClientPlayer player, float limbSwing, float limbSwingAmount,
+                                  float partialTick, float ageInTicks, float netHeadYaw, float headPitch) {
 
         // Gate to the Pets tab only (inside cosmetics GUI)
         if (!(Minecraft.getInstance().screen instanceof CosmeticsChestScreen chest)) {
-            PET_CACHE.remove(player);
+            // Screen closed without removed() (e.g. disconnect): don't hold on to the pool
+            if (!POOL.isEmpty()) cleanupAll();
             return;
         }
 
         ScreenState state = chest.getScreenState();
         if (state == null || !ScreenState.TYPE_PETS.equals(state.getActiveType())) {
-            // Clear cached mannequin entity for this player so we don't leak
-            PET_CACHE.remove(player);
             return;
         }
 
@@ -68,7 +92,6 @@ public class PetRenderLayer extends RenderLayer<AbstractClientPlayer, PlayerMode
             petId = ClientState.getEquippedId(player, "pets");
         }
         if (petId == null || isAir(petId)) {
-            PET_CACHE.remove(player);
             return;
         }
 
@@ -84,41 +107,35 @@ public class PetRenderLayer extends RenderLayer<AbstractClientPlayer, PlayerMode
         EntityType<?> entityType = BuiltInRegistries.ENTITY_TYPE.get(entityTypeId);
         if (entityType == null) return;
 
-        // Get or create preview entity
+        // Get or create preview entity (configured once, on creation)
         Entity petEntity = getOrCreatePetEntity(player, entityType);
         if (petEntity == null) return;
 
-        // Configure preview entity (invulnerable, silent, etc.)
-        configurePetEntity(petEntity);
-
         // Render tiny orbiting preview around the mannequin
         renderPetSimple(poseStack, bufferSource, packedLight, petEntity, partialTick, ageInTicks);
     }
 
     private Entity getOrCreatePetEntity(AbstractClientPlayer player, EntityType<?> entityType) {
-        Entity cached = PET_CACHE.get(player);
+        Level level = player.level();
+        if (level == null) return null;
+
+        Entity pooled = POOL.get(entityType);
+        if (pooled != null) {
+            if (pooled.level() == level) return pooled;
+            // Built for a previous level (dimension change / reconnect)
+            POOL.remove(entityType).discard();
+        }
 
-        if (cached == null || !cached.getType().equals(entityType)) {
-            // Discard old entity if it exists and type changed
-            if (cached != null && !cached.getType().equals(entityType)) {
-                cached.discard();
-            }
-            
-            Level level = player.level();
-            if (level == null) return null;
-
-            try {
-                Entity newPet = entityType.create(level);
-                if (newPet != null) {
-                    PET_CACHE.put(player, newPet);
-                    return newPet;
-                }
-            } catch (Exception e) {
-                PET_CACHE.remove(player);
-                return null;
+        try {
+            Entity newPet = entityType.create(level);
+            if (newPet != null) {
+                configurePetEntity(newPet);
+                POOL.put(entityType, newPet);
             }
+            return newPet;
+        } catch (Exception e) {
+            return null;
         }
-        return cached;
     }
 
     private void configurePetEntity(Entity petEntity) {
@@ -173,11 +190,9 @@ public class PetRenderLayer extends RenderLayer<AbstractClientPlayer, PlayerMode
         return id == null || ("minecraft".equals(id.getNamespace()) && "air".equals(id.getPath()));
     }
 
-    public static void cleanupPlayer(AbstractClientPlayer player) {
-        PET_CACHE.remove(player);
-    }
-
+    /** Drop every pooled preview entity (cosmetics screen closed). */
     public static void cleanupAll() {
-        PET_CACHE.clear();
+        for (Entity e : POOL.values()) e.discard();
+        POOL.clear();
     }
 }
@@ -14,6 +14,7 @@ import net.minecraftforge.common.capabilities.CapabilityToken;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -60,6 +61,9 @@ public class PlayerData implements INBTSerializable<CompoundTag> {
     public static final String TYPE_CAPES     = "capes";
     public static final String TYPE_PETS      = "pets";
 
+    /** Canonical slot order; a type's index is its wire ordinal in delta sync packets. */
+    public static final List<String> TYPES = List.of(TYPE_PARTICLES, TYPE_HATS, TYPE_CAPES, TYPE_PETS);
+
     // Capability id & handle
     public static final ResourceLocation CAP_ID =
             ResourceLocation.fromNamespaceAndPath(CosmeticsLite.MODID, "player_data");
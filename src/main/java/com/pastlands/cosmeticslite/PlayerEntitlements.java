@@ -13,11 +13,15 @@ import net.minecraftforge.common.util.INBTSerializable;
 import net.minecraftforge.common.util.LazyOptional;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Server-authoritative per-player entitlements (what a player is allowed to use).
@@ -32,12 +36,17 @@ import java.util.Set;
  * <pre>
  * {
  *   packs:     [ "namespace:path", ... ],
- *   cosmetics: [ "namespace:path", ... ]
+ *   cosmetics: [ "namespace:path", ... ],
+ *   epoch:     long,
+ *   version:   long
  * }
  * </pre>
  *
- * <p>Networking is intentionally <b>not</b> included here. Sync will be added by a dedicated
- * S2C packet in a later step. This class only defines the storage, API and capability plumbing.</p>
+ * <p>Every grant or revoke that changes a set bumps {@link #version()} and is appended to a short
+ * in-memory change log, so sync can send just the changes since the version a client last
+ * acknowledged ({@link #changesSince}). The {@link #epoch()} identifies one grant history; a
+ * client holding another epoch's version needs a full snapshot. Networking itself lives in
+ * {@link com.pastlands.cosmeticslite.network.EntitlementSync}.</p>
  */
 public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
 
@@ -60,6 +69,22 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
     private final Set<String> packs = new HashSet<>();       // RL string form
     private final Set<String> cosmetics = new HashSet<>();   // RL string form
 
+    // --------------------------------------------------------------------------------------------
+    // Versioning (delta sync)
+    // --------------------------------------------------------------------------------------------
+
+    /** One set change; {@code pack} tells which bucket. Presence is read from the current sets. */
+    public record Change(long version, boolean pack, String id) {}
+
+    /** Changes kept in memory; older ones force a full sync. */
+    private static final int CHANGE_LOG_LIMIT = 128;
+
+    private long epoch = newEpoch();
+    private long version = 0L;
+    /** Every change after this version is in {@link #changeLog}. */
+    private long logFloor = 0L;
+    private final ArrayDeque<Change> changeLog = new ArrayDeque<>();
+
     // --------------------------------------------------------------------------------------------
     // Public API (server-authoritative)
     // --------------------------------------------------------------------------------------------
@@ -71,7 +96,7 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
      */
     public void grantPack(@Nullable ResourceLocation id) {
         if (id == null) return;
-        packs.add(id.toString());
+        if (packs.add(id.toString())) recordChange(true, id.toString());
     }
 
     /**
@@ -79,7 +104,7 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
      */
     public void revokePack(@Nullable ResourceLocation id) {
         if (id == null) return;
-        packs.remove(id.toString());
+        if (packs.remove(id.toString())) recordChange(true, id.toString());
     }
 
     /**
@@ -100,13 +125,13 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
     /** Grants a specific cosmetic id. */
     public void grantCosmetic(@Nullable ResourceLocation id) {
         if (id == null) return;
-        cosmetics.add(id.toString());
+        if (cosmetics.add(id.toString())) recordChange(false, id.toString());
     }
 
     /** Revokes a specific cosmetic id. */
     public void revokeCosmetic(@Nullable ResourceLocation id) {
         if (id == null) return;
-        cosmetics.remove(id.toString());
+        if (cosmetics.remove(id.toString())) recordChange(false, id.toString());
     }
 
     /** Returns true if the player owns the given cosmetic id. */
@@ -122,8 +147,49 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
 
     /** Removes all grants (packs and cosmetics). */
     public void clearAll() {
+        if (packs.isEmpty() && cosmetics.isEmpty()) return;
         packs.clear();
         cosmetics.clear();
+        // Not logged per id: anyone behind gets a full snapshot
+        version++;
+        logFloor = version;
+        changeLog.clear();
+    }
+
+    // ---- Versioning ----
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Changes after {@code fromVersion}, oldest first, or null when they can't be replayed (other
+     * epoch, a version from the future, or older than the change log).
+     */
+    @Nullable
+    public List<Change> changesSince(long fromEpoch, long fromVersion) {
+        if (fromEpoch != epoch || fromVersion < logFloor || fromVersion > version) return null;
+        List<Change> out = new ArrayList<>();
+        for (Change c : changeLog) {
+            if (c.version() > fromVersion) out.add(c);
+        }
+        return out;
+    }
+
+    private void recordChange(boolean pack, String id) {
+        version++;
+        changeLog.addLast(new Change(version, pack, id));
+        if (changeLog.size() > CHANGE_LOG_LIMIT) {
+            logFloor = changeLog.removeFirst().version();
+        }
+    }
+
+    private static long newEpoch() {
+        return ThreadLocalRandom.current().nextLong();
     }
 
     // --------------------------------------------------------------------------------------------
@@ -146,6 +212,8 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
         }
         root.put("cosmetics", cosList);
 
+        root.putLong("epoch", epoch);
+        root.putLong("version", version);
         return root;
     }
 
@@ -153,8 +221,14 @@ public class PlayerEntitlements implements INBTSerializable<CompoundTag> {
     public void deserializeNBT(CompoundTag nbt) {
         packs.clear();
         cosmetics.clear();
+        changeLog.clear();
         if (nbt == null) return;
 
+        // Older saves have no epoch: start a new history
+        epoch = nbt.contains("epoch", CompoundTag.TAG_LONG) ? nbt.getLong("epoch") : newEpoch();
+        version = nbt.getLong("version");
+        logFloor = version;
+
         if (nbt.contains("packs", ListTag.TAG_LIST)) {
             ListTag list = nbt.getList("packs", ListTag.TAG_STRING);
             for (int i = 0; i < list.size(); i++) {
@@ -0,0 +1,153 @@
+package com.pastlands.cosmeticslite;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-player dirty flags for server -> client sync, flushed once at the end of the server tick.
+ *
+ * Producers only mark a player dirty on a channel; however many times that happens in one tick
+ * (clone + respawn + dimension change + an equip request), the client gets at most one packet
+ * per channel. Equip marks accumulate touched slots and the flush reads PlayerData at that
+ * moment, so repeated changes to one slot collapse into its final value.
+ *
+ * Start-tracking snapshots are collected per viewer the same way and leave as one
+ * {@link PacketSyncCosmeticsBatch}; a subject tracked by several viewers in one tick is encoded
+ * from a single snapshot. Likewise every player marked for DEFINITIONS in one tick shares one
+ * encoded definitions snapshot.
+ *
+ * Players are keyed by UUID and resolved at flush time, so a clone's new entity (and id) is used.
+ * Server thread only.
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class SyncCoalescer {
+
+    private SyncCoalescer() {}
+
+    public enum Channel {
+        /** Equipped slots, as a delta to trackers + self. */
+        EQUIP,
+        /** Legacy global access flag. */
+        ACCESS,
+        /** Pack / cosmetic entitlements (owner only). */
+        ENTITLEMENTS,
+        /** Full particle definition snapshot (owner only). */
+        DEFINITIONS
+    }
+
+    private static final class Dirty {
+        final EnumSet<Channel> channels = EnumSet.noneOf(Channel.class);
+        final Set<String> equipTypes = new LinkedHashSet<>();
+    }
+
+    private static final Map<UUID, Dirty> DIRTY = new LinkedHashMap<>();
+    /** Viewer -> subjects it started tracking this tick. */
+    private static final Map<UUID, Set<UUID>> TRACKING = new LinkedHashMap<>();
+
+    private static final CosmeticsMetrics.Timer FLUSH_TIME = CosmeticsMetrics.timer("server.sync.flush");
+
+    // --------------------------------------------------------------------------------------------
+    // Marking
+    // --------------------------------------------------------------------------------------------
+
+    public static void mark(ServerPlayer sp, Channel channel) {
+        if (sp == null) return;
+        DIRTY.computeIfAbsent(sp.getUUID(), k -> new Dirty()).channels.add(channel);
+    }
+
+    public static void markEquip(ServerPlayer sp, Collection<String> types) {
+        if (sp == null || types.isEmpty()) return;
+        Dirty d = DIRTY.computeIfAbsent(sp.getUUID(), k -> new Dirty());
+        d.channels.add(Channel.EQUIP);
+        d.equipTypes.addAll(types);
+    }
+
+    /** {@code viewer} started tracking {@code subject}: queue the subject's full snapshot. */
+    public static void markTracking(ServerPlayer viewer, ServerPlayer subject) {
+        if (viewer == null || subject == null) return;
+        TRACKING.computeIfAbsent(viewer.getUUID(), k -> new LinkedHashSet<>()).add(subject.getUUID());
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Flush
+    // --------------------------------------------------------------------------------------------
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (TRACKING.isEmpty() && DIRTY.isEmpty()) return;
+        long start = System.nanoTime();
+        if (!TRACKING.isEmpty()) flushTracking(event.getServer());
+        if (!DIRTY.isEmpty()) flush(event.getServer());
+        FLUSH_TIME.recordSince(start);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        DIRTY.clear();
+        TRACKING.clear();
+    }
+
+    private static void flushTracking(MinecraftServer server) {
+        Map<UUID, Set<UUID>> batch = new LinkedHashMap<>(TRACKING);
+        TRACKING.clear();
+
+        // One snapshot per subject, shared by every viewer that picked it up this tick
+        Map<UUID, PacketSyncCosmetics> snapshots = new HashMap<>();
+        for (Map.Entry<UUID, Set<UUID>> e : batch.entrySet()) {
+            ServerPlayer viewer = server.getPlayerList().getPlayer(e.getKey());
+            if (viewer == null) continue;
+            List<PacketSyncCosmetics> out = new ArrayList<>(e.getValue().size());
+            for (UUID subjectId : e.getValue()) {
+                PacketSyncCosmetics snap = snapshots.computeIfAbsent(subjectId, id -> {
+                    ServerPlayer subject = server.getPlayerList().getPlayer(id);
+                    if (subject == null) return null;
+                    return PlayerData.get(subject)
+                            .map(data -> new PacketSyncCosmetics(subject.getId(), data.getAllEquipped()))
+                            .orElse(null);
+                });
+                if (snap != null) out.add(snap);
+            }
+            CosmeticsSync.syncBatchTo(viewer, out);
+        }
+    }
+
+    private static void flush(MinecraftServer server) {
+        // Snapshot first: a send can trigger listeners that mark again (picked up next tick)
+        Map<UUID, Dirty> batch = new LinkedHashMap<>(DIRTY);
+        DIRTY.clear();
+
+        // DEFINITIONS is the same snapshot for everyone: collected here, encoded once below
+        List<ServerPlayer> definitions = new ArrayList<>();
+        for (Map.Entry<UUID, Dirty> e : batch.entrySet()) {
+            ServerPlayer sp = server.getPlayerList().getPlayer(e.getKey());
+            if (sp == null) continue; // logged out this tick
+            Dirty d = e.getValue();
+            for (Channel channel : d.channels) {
+                switch (channel) {
+                    case EQUIP -> PlayerData.get(sp).ifPresent(data ->
+                            CosmeticsSync.syncDelta(sp, data.getAllEquipped(), d.equipTypes));
+                    case ACCESS -> CosmeticCommand.sendAccessSync(sp);
+                    case ENTITLEMENTS -> CosmeticsLite.sendEntitlements(sp);
+                    case DEFINITIONS -> definitions.add(sp);
+                }
+            }
+        }
+        CosmeticsLite.sendParticleDefinitions(definitions);
+    }
+}
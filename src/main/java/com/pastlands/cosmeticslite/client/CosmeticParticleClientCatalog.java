@@ -1,7 +1,10 @@
 package com.pastlands.cosmeticslite.client;
 
 import com.mojang.logging.LogUtils;
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.network.C2SCatalogRequest;
 import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
 import org.slf4j.Logger;
 
@@ -11,11 +14,22 @@ import java.util.*;
  * Client-side catalog for cosmetic particle entries (synced from server).
  * Used by the Cosmetics Particle tab to display published cosmetics.
  * Includes both built-in and config entries (mirror from server).
+ *
+ * Loaded lazily: login only delivers the server's catalog stamp, and slots are requested the first
+ * time a screen needs them ({@link #ensureSlot}, {@link #ensureAll} from its setup) or when
+ * {@link #onResolveMiss} reports a render-time miss; the queries never send anything. A new stamp refetches the slots already
+ * held; a matching stamp keeps the entries from the previous session.
  */
 public final class CosmeticParticleClientCatalog {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final Map<ResourceLocation, CosmeticParticleEntry> ENTRIES = new LinkedHashMap<>();
 
+    /** Server's current stamp and the stamp the loaded slots belong to. */
+    private static long stamp = 0L;
+    private static long loadedStamp = 0L;
+    private static final EnumSet<CosmeticParticleEntry.Slot> LOADED = EnumSet.noneOf(CosmeticParticleEntry.Slot.class);
+    private static final EnumSet<CosmeticParticleEntry.Slot> REQUESTED = EnumSet.noneOf(CosmeticParticleEntry.Slot.class);
+
     private CosmeticParticleClientCatalog() {}
 
     /**
@@ -27,9 +41,105 @@ public final class CosmeticParticleClientCatalog {
         for (CosmeticParticleEntry entry : entries) {
             ENTRIES.put(entry.id(), entry);
         }
+        LOADED.addAll(EnumSet.allOf(CosmeticParticleEntry.Slot.class));
+        REQUESTED.clear();
+        loadedStamp = stamp;
         LOGGER.info("[cosmeticslite] Synced {} cosmetic particle entry(ies) from server", entries.size());
     }
 
+    // --------------------------------------------------------------------------------------------
+    // Lazy loading
+    // --------------------------------------------------------------------------------------------
+
+    /** Server announced its catalog stamp (login or after a publish/delete). */
+    public static synchronized void onStamp(long newStamp) {
+        stamp = newStamp;
+        if (newStamp == loadedStamp) return;
+        // Stale: drop request bookkeeping and refetch what was in use
+        EnumSet<CosmeticParticleEntry.Slot> inUse = EnumSet.copyOf(LOADED);
+        inUse.addAll(REQUESTED);
+        LOADED.clear();
+        REQUESTED.clear();
+        if (inUse.size() == CosmeticParticleEntry.Slot.values().length) {
+            ensureAll();
+        } else {
+            for (CosmeticParticleEntry.Slot slot : inUse) ensureSlot(slot);
+        }
+    }
+
+    /** Request one slot unless it is loaded or already on its way. */
+    public static synchronized void ensureSlot(CosmeticParticleEntry.Slot slot) {
+        if (LOADED.contains(slot) || REQUESTED.contains(slot) || !connected()) return;
+        REQUESTED.add(slot);
+        CosmeticsLite.NETWORK.sendToServer(new C2SCatalogRequest(slot));
+    }
+
+    /** Request every slot not yet loaded, in one round trip. */
+    public static synchronized void ensureAll() {
+        if (isFullyLoaded() || !connected()) return;
+        EnumSet<CosmeticParticleEntry.Slot> missing = EnumSet.complementOf(LOADED);
+        missing.removeAll(REQUESTED);
+        if (missing.isEmpty()) return;
+        REQUESTED.addAll(missing);
+        CosmeticsLite.NETWORK.sendToServer(new C2SCatalogRequest(null));
+    }
+
+    /** Slot that worn particle cosmetics are published to and equipped from. */
+    public static final CosmeticParticleEntry.Slot WORN_SLOT = CosmeticParticleEntry.Slot.AURA;
+
+    /**
+     * The profile resolver found nothing for a worn id: neither the particle registry nor the
+     * loaded catalog knows it (e.g. another player's aura before any menu was opened). Requests
+     * only the worn slot, and only once until it arrives.
+     */
+    public static void onResolveMiss() {
+        ensureSlot(WORN_SLOT);
+    }
+
+    /** A requested slice arrived ({@code slot == null}: every slot). */
+    public static synchronized void applySlice(long sliceStamp, CosmeticParticleEntry.Slot slot,
+                                               Collection<CosmeticParticleEntry> entries) {
+        if (sliceStamp != loadedStamp) {
+            // First slice of a new catalog: anything held belongs to the old one
+            ENTRIES.clear();
+            LOADED.clear();
+            loadedStamp = sliceStamp;
+        }
+        if (slot == null) {
+            ENTRIES.clear();
+        } else {
+            ENTRIES.values().removeIf(e -> e.slot() == slot);
+        }
+        for (CosmeticParticleEntry entry : entries) {
+            ENTRIES.put(entry.id(), entry);
+        }
+        if (slot == null) {
+            LOADED.addAll(EnumSet.allOf(CosmeticParticleEntry.Slot.class));
+            REQUESTED.clear();
+        } else {
+            LOADED.add(slot);
+            REQUESTED.remove(slot);
+        }
+        LOGGER.debug("[cosmeticslite] Loaded {} catalog entry(ies) for {}", entries.size(), slot == null ? "all slots" : slot);
+    }
+
+    public static synchronized boolean isLoaded(CosmeticParticleEntry.Slot slot) {
+        return LOADED.contains(slot);
+    }
+
+    private static boolean isFullyLoaded() {
+        return LOADED.size() == CosmeticParticleEntry.Slot.values().length;
+    }
+
+    private static boolean connected() {
+        Minecraft mc = Minecraft.getInstance();
+        return mc != null && mc.getConnection() != null;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Queries
+    // --------------------------------------------------------------------------------------------
+
     /**
      * Get all entries.
      */
@@ -38,7 +148,7 @@ public final class CosmeticParticleClientCatalog {
     }
 
     /**
-     * Get entry by ID.
+     * Get entry by ID; null when unknown or its slot is not loaded yet.
      */
     public static synchronized CosmeticParticleEntry get(ResourceLocation id) {
         return ENTRIES.get(id);
@@ -295,6 +295,8 @@ public class ParticleLabScreen extends Screen {
     @Override
     protected void init() {
         super.init();
+        // Publish status checks need the whole particle catalog; fetched on first open
+        com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog.ensureAll();
         
         left = (this.width - GUI_WIDTH) / 2;
         top = (this.height - GUI_HEIGHT) / 2;
@@ -45,6 +45,8 @@ public class PublishCosmeticDialogScreen extends Screen {
     @Override
     protected void init() {
         super.init();
+        // Existing entry lookup below needs the catalog (normally already loaded by the Lab)
+        CosmeticParticleClientCatalog.ensureAll();
         
         // Normalize base dialog frame
         int dialogWidth = 300;
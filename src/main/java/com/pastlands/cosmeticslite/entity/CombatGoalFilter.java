@@ -0,0 +1,88 @@
+package com.pastlands.cosmeticslite.entity;
+
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.GoalSelector;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+import net.minecraft.world.entity.animal.IronGolem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Removes combat goals (attack, ranged, target acquisition) from cosmetic pets.
+ *
+ * Whether a goal class counts as combat is decided once per class from its name and cached in a
+ * {@link ClassValue}, so filtering is a set walk with one lookup per goal. Pets are filtered when
+ * their goals are registered and when they join a level; after that {@link #recheck} only filters
+ * again if a selector changed size since the last pass (a goal added later, e.g. Fox target goals
+ * re-added on load), instead of sweeping every pet on a timer.
+ */
+public final class CombatGoalFilter {
+
+    private CombatGoalFilter() {}
+
+    private static final ClassValue<Boolean> COMBAT_GOAL = nameFilter(
+            "MeleeAttack", "Ranged", "Shoot", "Projectile", "LeapAt", "Charge");
+    private static final ClassValue<Boolean> COMBAT_TARGET = nameFilter(
+            "NearestAttackableTarget", "HurtByTarget", "ResetUniversalAnger");
+    private static final ClassValue<Boolean> GOLEM_GOAL = nameFilter(
+            "MeleeAttack", "MoveToTarget", "DefendVillage");
+    private static final ClassValue<Boolean> GOLEM_TARGET = nameFilter(
+            "NearestAttackableTarget", "HurtByTarget", "DefendVillage");
+
+    /** Pet -> packed selector sizes after its last filter pass. */
+    private static final Map<Mob, Integer> FILTERED = new WeakHashMap<>();
+
+    /** Remove combat goals from both selectors. Safe to call from {@code registerGoals}. */
+    public static void strip(Mob mob) {
+        boolean golem = mob instanceof IronGolem;
+        removeMatching(mob.goalSelector, golem ? GOLEM_GOAL : COMBAT_GOAL, golem ? COMBAT_GOAL : null);
+        removeMatching(mob.targetSelector, golem ? GOLEM_TARGET : COMBAT_TARGET, golem ? COMBAT_TARGET : null);
+    }
+
+    /** {@link #strip} and remember the resulting selector sizes. */
+    static void filter(Mob mob) {
+        strip(mob);
+        FILTERED.put(mob, signature(mob));
+    }
+
+    /** Filter again only if goals were added or removed since the last pass. */
+    static void recheck(Mob mob) {
+        Integer last = FILTERED.get(mob);
+        if (last == null || last != signature(mob)) filter(mob);
+    }
+
+    private static int signature(Mob mob) {
+        return (mob.goalSelector.getAvailableGoals().size() << 16) | mob.targetSelector.getAvailableGoals().size();
+    }
+
+    private static void removeMatching(GoalSelector selector, ClassValue<Boolean> filter, ClassValue<Boolean> also) {
+        List<Goal> doomed = null;
+        for (WrappedGoal w : selector.getAvailableGoals()) {
+            Class<?> type = w.getGoal().getClass();
+            if (filter.get(type) || (also != null && also.get(type))) {
+                if (doomed == null) doomed = new ArrayList<>(2);
+                doomed.add(w.getGoal());
+            }
+        }
+        if (doomed != null) {
+            for (Goal g : doomed) selector.removeGoal(g);
+        }
+    }
+
+    private static ClassValue<Boolean> nameFilter(String... fragments) {
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                String n = type.getName();
+                for (String f : fragments) {
+                    if (n.contains(f)) return Boolean.TRUE;
+                }
+                return Boolean.FALSE;
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.pastlands.cosmeticslite.entity;
+
+/**
+ * Marker for CosmeticsLite's own pet entity classes ({@code CosmeticPet*}).
+ *
+ * Lets hot event handlers (damage, griefing, block placement) identify a cosmetic pet with a
+ * type test. Vanilla entities spawned as pets are tracked by id in {@link PetManager} instead.
+ */
+public interface CosmeticPet {
+}
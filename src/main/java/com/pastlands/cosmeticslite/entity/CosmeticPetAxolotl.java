@@ -21,7 +21,7 @@ import java.util.UUID;
  * Cosmetic Pet Axolotl - an axolotl that follows its owner and has cute behaviors.
  * Can survive on land for cosmetic purposes.
  */
-public class CosmeticPetAxolotl extends Axolotl {
+public class CosmeticPetAxolotl extends Axolotl implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
@@ -21,7 +21,7 @@ import java.util.UUID;
  * Cosmetic Pet Bee - a friendly bee that buzzes around its owner.
  * Never gets angry and doesn't collect pollen.
  */
-public class CosmeticPetBee extends Bee {
+public class CosmeticPetBee extends Bee implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID =
@@ -20,7 +20,7 @@ import org.jetbrains.annotations.Nullable;
  * - Overrides setTarget() to prevent targeting players
  * - Overrides canAttack() and canAttackType() to return false
  */
-public class CosmeticPetBlaze extends Blaze {
+public class CosmeticPetBlaze extends Blaze implements CosmeticPet {
     public CosmeticPetBlaze(EntityType<? extends Blaze> type, Level level) {
         super(type, level);
     }
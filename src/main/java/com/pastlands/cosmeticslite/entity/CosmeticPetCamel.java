@@ -9,7 +9,7 @@ import net.minecraft.world.level.Level;
  * Cosmetic pet Camel.
  * Forge 47.4.0 / MC 1.20.1
  */
-public class CosmeticPetCamel extends Camel {
+public class CosmeticPetCamel extends Camel implements CosmeticPet {
 
     public CosmeticPetCamel(EntityType<? extends Camel> type, Level level) {
         super(type, level);
@@ -26,5 +26,7 @@ public class CosmeticPetCamel extends Camel {
         super.registerGoals();
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
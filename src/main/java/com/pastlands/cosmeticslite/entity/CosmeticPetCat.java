@@ -20,7 +20,7 @@ import java.util.UUID;
  * Cosmetic Pet Cat - a tamed cat that follows its owner but doesn't fight or breed.
  * Designed to be a purely cosmetic companion.
  */
-public class CosmeticPetCat extends Cat {
+public class CosmeticPetCat extends Cat implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
@@ -20,7 +20,7 @@ import java.util.UUID;
  * Cosmetic Pet Chicken - a chicken that follows its owner but doesn't lay eggs or breed.
  * Designed to be a purely cosmetic companion.
  */
-public class CosmeticPetChicken extends Chicken {
+public class CosmeticPetChicken extends Chicken implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
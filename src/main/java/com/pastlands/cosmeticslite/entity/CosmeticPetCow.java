@@ -9,7 +9,7 @@ import net.minecraft.world.level.Level;
  * Cosmetic pet Cow.
  * Forge 47.4.0 / MC 1.20.1
  */
-public class CosmeticPetCow extends Cow {
+public class CosmeticPetCow extends Cow implements CosmeticPet {
 
     public CosmeticPetCow(EntityType<? extends Cow> type, Level level) {
         super(type, level);
@@ -26,5 +26,7 @@ public class CosmeticPetCow extends Cow {
         super.registerGoals();
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
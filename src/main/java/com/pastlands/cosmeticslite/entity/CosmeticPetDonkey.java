@@ -10,7 +10,7 @@ import net.minecraft.world.level.Level;
  * Cosmetic Donkey pet.
  * Forge 47.4.0 (MC 1.20.1)
  */
-public class CosmeticPetDonkey extends Donkey {
+public class CosmeticPetDonkey extends Donkey implements CosmeticPet {
 
     public CosmeticPetDonkey(EntityType<? extends CosmeticPetDonkey> type, Level level) {
         super(type, level);
@@ -52,5 +52,7 @@ public class CosmeticPetDonkey extends Donkey {
         super.registerGoals();
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
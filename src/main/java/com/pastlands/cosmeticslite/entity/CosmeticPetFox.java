@@ -20,7 +20,7 @@ import java.util.UUID;
  * Cosmetic Pet Fox - a tamed fox that follows its owner but doesn't hunt or breed.
  * Designed to be a purely cosmetic companion.
  */
-public class CosmeticPetFox extends Fox {
+public class CosmeticPetFox extends Fox implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
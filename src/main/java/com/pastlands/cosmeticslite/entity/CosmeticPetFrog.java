@@ -18,7 +18,7 @@ import net.minecraft.world.level.Level;
 import javax.annotation.Nullable;
 import java.util.UUID;
 
-public class CosmeticPetFrog extends Frog {
+public class CosmeticPetFrog extends Frog implements CosmeticPet {
 
     private static final EntityDataAccessor<String> OWNER_UUID =
             SynchedEntityData.defineId(CosmeticPetFrog.class, EntityDataSerializers.STRING);
@@ -10,7 +10,7 @@ import net.minecraft.world.entity.animal.horse.Horse;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
-public class CosmeticPetHorse extends Horse {
+public class CosmeticPetHorse extends Horse implements CosmeticPet {
 
     public CosmeticPetHorse(EntityType<? extends Horse> type, Level level) {
         super(type, level);
@@ -5,7 +5,7 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.animal.IronGolem;
 import net.minecraft.world.level.Level;
 
-public class CosmeticPetIronGolem extends IronGolem {
+public class CosmeticPetIronGolem extends IronGolem implements CosmeticPet {
     public CosmeticPetIronGolem(EntityType<? extends IronGolem> type, Level level) {
         super(type, level);
     }
@@ -17,5 +17,7 @@ public class CosmeticPetIronGolem extends IronGolem {
         this.targetSelector.removeAllGoals(goal -> true);
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
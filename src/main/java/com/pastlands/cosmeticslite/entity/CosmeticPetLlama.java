@@ -10,7 +10,7 @@ import net.minecraft.world.entity.animal.horse.Llama;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
-public class CosmeticPetLlama extends Llama {
+public class CosmeticPetLlama extends Llama implements CosmeticPet {
 
     public CosmeticPetLlama(EntityType<? extends Llama> type, Level level) {
         super(type, level);
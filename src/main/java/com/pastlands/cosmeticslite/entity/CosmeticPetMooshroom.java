@@ -17,7 +17,7 @@ import net.minecraft.world.level.Level;
 import javax.annotation.Nullable;
 import java.util.UUID;
 
-public class CosmeticPetMooshroom extends MushroomCow {
+public class CosmeticPetMooshroom extends MushroomCow implements CosmeticPet {
 
     private static final EntityDataAccessor<String> OWNER_UUID =
             SynchedEntityData.defineId(CosmeticPetMooshroom.class, EntityDataSerializers.STRING);
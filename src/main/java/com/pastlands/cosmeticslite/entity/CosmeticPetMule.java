@@ -9,7 +9,7 @@ import net.minecraft.world.level.Level;
  * Cosmetic pet Mule.
  * Forge 47.4.0 / MC 1.20.1
  */
-public class CosmeticPetMule extends Mule {
+public class CosmeticPetMule extends Mule implements CosmeticPet {
 
     public CosmeticPetMule(EntityType<? extends Mule> type, Level level) {
         super(type, level);
@@ -26,5 +26,7 @@ public class CosmeticPetMule extends Mule {
         super.registerGoals();
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
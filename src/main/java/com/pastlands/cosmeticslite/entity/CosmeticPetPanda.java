@@ -21,7 +21,7 @@ import java.util.UUID;
  * Cosmetic Pet Panda - a lazy, adorable companion with different personalities.
  * Comes in various panda personalities and loves to sit around.
  */
-public class CosmeticPetPanda extends Panda {
+public class CosmeticPetPanda extends Panda implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
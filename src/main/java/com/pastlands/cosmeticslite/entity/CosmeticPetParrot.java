@@ -22,7 +22,7 @@ import java.util.UUID;
  * Cosmetic Pet Parrot - a colorful flying companion that can perch on shoulders.
  * Comes in all 5 parrot variants and flies around the owner.
  */
-public class CosmeticPetParrot extends Parrot {
+public class CosmeticPetParrot extends Parrot implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID =
@@ -20,7 +20,7 @@ import java.util.UUID;
  * Cosmetic Pet Pig - a classic pink companion that follows its owner.
  * The original Minecraft pet, friendly and loyal.
  */
-public class CosmeticPetPig extends Pig {
+public class CosmeticPetPig extends Pig implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
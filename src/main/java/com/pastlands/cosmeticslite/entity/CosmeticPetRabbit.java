@@ -21,7 +21,7 @@ import java.util.UUID;
  * Cosmetic Pet Rabbit - a small hopping companion that follows its owner.
  * Comes in various colors and has cute hopping behavior.
  */
-public class CosmeticPetRabbit extends Rabbit {
+public class CosmeticPetRabbit extends Rabbit implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
@@ -31,7 +31,7 @@ import java.util.UUID;
  * - Color persists across relogs via NBT ("CosLiteDye")
  * - Always invulnerable & unshearable
  */
-public class CosmeticPetSheep extends Sheep {
+public class CosmeticPetSheep extends Sheep implements CosmeticPet {
 
     private static final EntityDataAccessor<String> OWNER_UUID =
             SynchedEntityData.defineId(CosmeticPetSheep.class, EntityDataSerializers.STRING);
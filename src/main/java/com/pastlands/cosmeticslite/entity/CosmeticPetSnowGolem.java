@@ -29,7 +29,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * Forge 47.4.0 / MC 1.20.1
  */
-public class CosmeticPetSnowGolem extends SnowGolem {
+public class CosmeticPetSnowGolem extends SnowGolem implements CosmeticPet {
 
     public CosmeticPetSnowGolem(EntityType<? extends SnowGolem> type, Level level) {
         super(type, level);
@@ -5,7 +5,7 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.monster.Vex;
 import net.minecraft.world.level.Level;
 
-public class CosmeticPetVex extends Vex {
+public class CosmeticPetVex extends Vex implements CosmeticPet {
     public CosmeticPetVex(EntityType<? extends Vex> type, Level level) {
         super(type, level);
     }
@@ -17,5 +17,7 @@ public class CosmeticPetVex extends Vex {
         this.targetSelector.removeAllGoals(goal -> true);
         // Add follow owner goal at high priority (priority 2) so it wins over wandering
         this.goalSelector.addGoal(2, new PetFollowOwnerGoal(this));
+        // Drop inherited combat goals (attack/target) once, at registration
+        CombatGoalFilter.strip(this);
     }
 }
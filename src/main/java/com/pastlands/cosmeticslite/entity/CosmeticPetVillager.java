@@ -37,7 +37,7 @@ import java.util.UUID;
  *
  * Persists a tiny lock (ENBT "villager_type") and re-asserts every ~2s.
  */
-public class CosmeticPetVillager extends Villager {
+public class CosmeticPetVillager extends Villager implements CosmeticPet {
 
     // Must match PetManager ENBT keys
     private static final String ENBT_ROOT  = "coslite";
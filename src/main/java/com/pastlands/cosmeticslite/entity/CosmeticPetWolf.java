@@ -20,7 +20,7 @@ import java.util.UUID;
  * Cosmetic Pet Wolf - a tamed wolf that follows its owner but doesn't fight or breed.
  * Designed to be a purely cosmetic companion.
  */
-public class CosmeticPetWolf extends Wolf {
+public class CosmeticPetWolf extends Wolf implements CosmeticPet {
 
     // Data for storing owner UUID
     private static final EntityDataAccessor<String> OWNER_UUID = 
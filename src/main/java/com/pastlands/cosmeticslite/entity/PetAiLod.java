@@ -0,0 +1,137 @@
+package com.pastlands.cosmeticslite.entity;
+
+import com.pastlands.cosmeticslite.entity.goal.PetFollowOwnerGoal;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.FloatGoal;
+import net.minecraft.world.entity.ai.goal.FollowOwnerGoal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * AI level-of-detail for cosmetic pets (server side).
+ *
+ * A pet drops to low detail when no player other than its owner is within {@link #VIEW_RANGE},
+ * or when the owner has not moved for {@link #OWNER_IDLE_TICKS}. In low detail its non-essential
+ * goals (wandering, looking around, ...) are taken off the goal selector and navigation is
+ * stopped; float, sit and follow-owner goals stay, and {@link PetManager#maintainPet} keeps the
+ * pet on a short teleport leash instead of pathing long distances. The suspended goals go back
+ * with their original priorities as soon as someone else comes into range or the owner moves.
+ *
+ * Driven from {@link PetMaintenanceScheduler} visits, so state changes at most once per round.
+ * Goals are code-registered, so nothing here is persisted. Server thread only.
+ */
+public final class PetAiLod {
+
+    private PetAiLod() {}
+
+    /** Another player this close to the pet counts as observing it. */
+    static final double VIEW_RANGE = 32.0;
+    private static final double VIEW_RANGE_SQ = VIEW_RANGE * VIEW_RANGE;
+
+    /** Owner standing still this long counts as idle (AFK). */
+    static final int OWNER_IDLE_TICKS = 20 * 15;
+
+    /** Owner movement below this (squared blocks) does not reset the idle timer. */
+    private static final double OWNER_MOVE_EPS_SQ = 0.25 * 0.25;
+
+    /** Pets currently in low detail -> goals taken off their selector. */
+    private static final Map<Mob, List<WrappedGoal>> SUSPENDED = new WeakHashMap<>();
+
+    /** Owner -> last position sample (x, y, z, tick it last moved). */
+    private static final Map<UUID, double[]> OWNER_MOTION = new HashMap<>();
+
+    /**
+     * Re-evaluate one pet's detail level.
+     *
+     * @return true if the pet is (now) in low detail
+     */
+    static boolean update(Mob mob, @Nullable ServerPlayer owner, int tick) {
+        boolean low = owner != null && owner.level() == mob.level()
+                && (ownerIdle(owner, tick) || !observed(mob, owner));
+        if (low) {
+            if (!SUSPENDED.containsKey(mob)) suspend(mob);
+        } else if (SUSPENDED.containsKey(mob)) {
+            resume(mob);
+        }
+        return low;
+    }
+
+    static void forgetOwner(UUID ownerId) {
+        OWNER_MOTION.remove(ownerId);
+    }
+
+    static void reset() {
+        SUSPENDED.clear();
+        OWNER_MOTION.clear();
+    }
+
+    public static int lowDetailCount() {
+        return SUSPENDED.size();
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private static void suspend(Mob mob) {
+        List<WrappedGoal> parked = new ArrayList<>();
+        for (WrappedGoal w : mob.goalSelector.getAvailableGoals()) {
+            if (!isEssential(w.getGoal())) parked.add(w);
+        }
+        for (WrappedGoal w : parked) mob.goalSelector.removeGoal(w.getGoal());
+        mob.getNavigation().stop();
+        SUSPENDED.put(mob, parked);
+    }
+
+    private static void resume(Mob mob) {
+        List<WrappedGoal> parked = SUSPENDED.remove(mob);
+        if (parked == null) return;
+        for (WrappedGoal w : parked) mob.goalSelector.addGoal(w.getPriority(), w.getGoal());
+    }
+
+    private static boolean isEssential(Goal goal) {
+        return goal instanceof FloatGoal
+            || goal instanceof SitWhenOrderedToGoal
+            || goal instanceof FollowOwnerGoal
+            || goal instanceof PetFollowOwnerGoal;
+    }
+
+    private static boolean observed(Mob mob, ServerPlayer owner) {
+        for (ServerPlayer p : owner.serverLevel().players()) {
+            if (p == owner || p.isSpectator()) continue;
+            if (p.distanceToSqr(mob) <= VIEW_RANGE_SQ) return true;
+        }
+        return false;
+    }
+
+    private static boolean ownerIdle(ServerPlayer owner, int tick) {
+        double[] m = OWNER_MOTION.get(owner.getUUID());
+        if (m == null) {
+            OWNER_MOTION.put(owner.getUUID(), new double[] { owner.getX(), owner.getY(), owner.getZ(), tick });
+            return false;
+        }
+        double dx = owner.getX() - m[0], dy = owner.getY() - m[1], dz = owner.getZ() - m[2];
+        if (dx * dx + dy * dy + dz * dz > OWNER_MOVE_EPS_SQ) {
+            m[0] = owner.getX();
+            m[1] = owner.getY();
+            m[2] = owner.getZ();
+            m[3] = tick;
+            return false;
+        }
+        return tick - m[3] >= OWNER_IDLE_TICKS;
+    }
+
+    /** Report line for {@code /cosmetics perf pets}. */
+    public static String report() {
+        return String.format("AI LOD: %d pet(s) in low detail (view range %.0f, owner idle after %ds)",
+                SUSPENDED.size(), VIEW_RANGE, OWNER_IDLE_TICKS / 20);
+    }
+}
@@ -2,6 +2,7 @@
 package com.pastlands.cosmeticslite.entity;
 
 import com.pastlands.cosmeticslite.CosmeticsLite;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.entity.animal.*;
@@ -25,6 +26,11 @@ import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.RegistryObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Registry for cosmetic pet entities.
@@ -202,6 +208,66 @@ public final class PetEntities {
                     .sized(1.4f, 2.7f)
                     .build("cosmetic_pet_iron_golem"));
 
+    // =========================
+    // Pet id -> entity type table
+    // =========================
+    /**
+     * Cosmetic pet id (e.g. {@code cosmeticslite:pet_wolf}) to the entity type spawned for it.
+     * PetManager resolves spawns and type checks here with one lookup; addons can add their own
+     * pets through {@link #registerPet} during mod setup.
+     */
+    private static final Map<ResourceLocation, Supplier<? extends EntityType<?>>> PET_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        pet("pet_wolf",       COSMETIC_PET_WOLF);
+        pet("pet_cat",        COSMETIC_PET_CAT);
+        pet("pet_chicken",    COSMETIC_PET_CHICKEN);
+        pet("pet_fox",        COSMETIC_PET_FOX);
+        pet("pet_axolotl",    COSMETIC_PET_AXOLOTL);
+        pet("pet_bee",        COSMETIC_PET_BEE);
+        pet("pet_rabbit",     COSMETIC_PET_RABBIT);
+        pet("pet_pig",        COSMETIC_PET_PIG);
+        pet("pet_sheep",      COSMETIC_PET_SHEEP);
+        pet("pet_panda",      COSMETIC_PET_PANDA);
+        pet("pet_parrot",     COSMETIC_PET_PARROT);
+        pet("pet_horse",      COSMETIC_PET_HORSE);
+        pet("pet_llama",      COSMETIC_PET_LLAMA);
+        pet("pet_frog",       COSMETIC_PET_FROG);
+        pet("pet_mooshroom",  COSMETIC_PET_MOOSHROOM);
+        pet("pet_donkey",     COSMETIC_PET_DONKEY);
+        pet("pet_mule",       COSMETIC_PET_MULE);
+        pet("pet_camel",      COSMETIC_PET_CAMEL);
+        pet("pet_goat",       COSMETIC_PET_GOAT);
+        pet("pet_ocelot",     COSMETIC_PET_OCELOT);
+        pet("pet_cow",        COSMETIC_PET_COW);
+        pet("pet_villager",   COSMETIC_PET_VILLAGER);
+        pet("pet_vex",        COSMETIC_PET_VEX);
+        pet("pet_blaze",      COSMETIC_PET_BLAZE);
+        pet("pet_snow_golem", COSMETIC_PET_SNOW_GOLEM);
+        pet("pet_iron_golem", COSMETIC_PET_IRON_GOLEM);
+    }
+
+    private static void pet(String path, Supplier<? extends EntityType<?>> type) {
+        PET_TYPES.put(ResourceLocation.fromNamespaceAndPath(CosmeticsLite.MODID, path), type);
+    }
+
+    /** Map a cosmetic pet id to the entity type to spawn for it (replaces any existing mapping). */
+    public static void registerPet(ResourceLocation petId, Supplier<? extends EntityType<?>> type) {
+        PET_TYPES.put(petId, type);
+    }
+
+    /** Entity type spawned for {@code petId}, or null if it is not a pet id. */
+    @Nullable
+    public static EntityType<?> petType(@Nullable ResourceLocation petId) {
+        if (petId == null) return null;
+        Supplier<? extends EntityType<?>> type = PET_TYPES.get(petId);
+        return type == null ? null : type.get();
+    }
+
+    public static boolean isPetId(@Nullable ResourceLocation petId) {
+        return petId != null && PET_TYPES.containsKey(petId);
+    }
+
     // =========================
     // Bootstrap
     // =========================
@@ -0,0 +1,100 @@
+package com.pastlands.cosmeticslite.entity;
+
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Round-robin driver for per-pet maintenance (de-aggro, goal stripping, leash).
+ *
+ * Instead of visiting every active pet every tick and gating work on {@code tickCount % N}
+ * (which lines up, so many pets do the same work on the same tick), each pet is visited once per
+ * {@link #CYCLE_TICKS}-tick round, a 1/{@code CYCLE_TICKS} slice per tick. Rounds are paced by
+ * server tick: a new one starts only once {@code CYCLE_TICKS} ticks have passed since the last
+ * began, so a handful of pets finish early and then wait rather than being visited every tick.
+ * A visit runs the tasks due on that visit number ({@link PetManager#maintainPet}); the number
+ * counts {@code CYCLE_TICKS} periods of server time, offset per pet by its owner id so the
+ * heavier tasks are spread as well.
+ *
+ * A tick stops early once {@link #BUDGET_NANOS} is spent (at least one pet always runs); the
+ * rest of the round continues next tick. Slice time, pets visited and over-budget ticks are
+ * recorded in {@link CosmeticsMetrics} ({@code server.pets.maintenance*}). Server thread only.
+ */
+public final class PetMaintenanceScheduler {
+
+    private PetMaintenanceScheduler() {}
+
+    /** Each pet is visited once per this many ticks when within budget. */
+    static final int CYCLE_TICKS = 10;
+    /** Per-tick time budget for maintenance. */
+    static final long BUDGET_NANOS = 500_000L; // 0.5 ms
+
+    private static final List<Map.Entry<UUID, Entity>> ROUND = new ArrayList<>();
+    private static int cursor = 0;
+    /** Server tick the current round began on. */
+    private static long roundStartTick = Long.MIN_VALUE;
+
+    private static final CosmeticsMetrics.Timer SLICE_TIME = CosmeticsMetrics.timer("server.pets.maintenance");
+    private static final CosmeticsMetrics.Counter VISITS = CosmeticsMetrics.counter("server.pets.maintenance_visits");
+    private static final CosmeticsMetrics.Counter OVER_BUDGET = CosmeticsMetrics.counter("server.pets.maintenance_over_budget");
+
+    static {
+        CosmeticsMetrics.gauge("server.pets.maintenance_round", ROUND::size);
+    }
+
+    static void tick(MinecraftServer server, Map<UUID, Entity> activePets) {
+        long tick = server.getTickCount();
+        if (cursor >= ROUND.size()) {
+            if (roundStartTick != Long.MIN_VALUE && tick - roundStartTick < CYCLE_TICKS) return;
+            ROUND.clear();
+            // Snapshot entries: pets despawned mid-round are skipped by the isRemoved check
+            for (Map.Entry<UUID, Entity> e : activePets.entrySet()) ROUND.add(Map.entry(e.getKey(), e.getValue()));
+            cursor = 0;
+            roundStartTick = tick;
+        }
+        long period = roundStartTick / CYCLE_TICKS;
+        int quota = (ROUND.size() + CYCLE_TICKS - 1) / CYCLE_TICKS;
+
+        long start = System.nanoTime();
+        int processed = 0;
+        boolean overBudget = false;
+        while (cursor < ROUND.size() && processed < quota) {
+            if (processed > 0 && System.nanoTime() - start > BUDGET_NANOS) {
+                overBudget = true;
+                break;
+            }
+            Map.Entry<UUID, Entity> e = ROUND.get(cursor++);
+            // Per-pet phase offset keeps pets from hitting the same task on the same visit
+            long visit = period + (e.getKey().hashCode() & 0xFF);
+            PetManager.maintainPet(server, e.getKey(), e.getValue(), visit);
+            processed++;
+        }
+        SLICE_TIME.recordSince(start);
+        VISITS.add(processed);
+        if (overBudget) OVER_BUDGET.increment();
+    }
+
+    static void reset() {
+        ROUND.clear();
+        cursor = 0;
+        roundStartTick = Long.MIN_VALUE;
+    }
+
+    /** Report lines for {@code /cosmetics perf pets}. */
+    public static List<String> report() {
+        List<String> out = new ArrayList<>();
+        long slices = SLICE_TIME.count();
+        double avgPets = slices == 0 ? 0 : (double) VISITS.get() / slices;
+        double avgMicros = slices == 0 ? 0 : SLICE_TIME.totalNanos() / 1000.0 / slices;
+        out.add(String.format("Pet maintenance: avg %.2f pet(s), %.1fµs per slice; p99 %.1fµs",
+                avgPets, avgMicros, SLICE_TIME.percentileNanos(0.99) / 1000.0));
+        out.add(String.format("  round size %d, cycle %d ticks, budget %.1fms, over budget on %d of %d slice(s)",
+                ROUND.size(), CYCLE_TICKS, BUDGET_NANOS / 1_000_000.0, OVER_BUDGET.get(), slices));
+        return out;
+    }
+}
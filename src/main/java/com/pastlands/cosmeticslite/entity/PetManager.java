@@ -2,8 +2,11 @@
 package com.pastlands.cosmeticslite.entity;
 
 import com.mojang.logging.LogUtils;
+import com.pastlands.cosmeticslite.CosmeticEquipEvents;
 import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
 import com.pastlands.cosmeticslite.PlayerData;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
@@ -29,18 +32,20 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDamageEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -61,6 +66,14 @@ public class PetManager {
     /** Active cosmetic pet instance per player. */
     private static final Map<UUID, Entity> ACTIVE_PETS = new ConcurrentHashMap<>();
 
+    /**
+     * Entity ids of vanilla-class entities carrying our owner tag (server side). {@code CosmeticPet*}
+     * classes are recognised by the {@link CosmeticPet} marker instead; together they make
+     * {@link #isCosmeticPet} a type test or one int lookup. Filled by {@link #tagOwner} and on level
+     * join (tag loaded from disk), emptied on level leave. Server thread only.
+     */
+    private static final IntOpenHashSet TAGGED_PET_IDS = new IntOpenHashSet();
+
     /** Tracks the last desired pet id string per player to detect equip changes (bypass debounce). */
     private static final Map<UUID, String> LAST_DESIRED = new ConcurrentHashMap<>();
 
@@ -75,14 +88,15 @@ public class PetManager {
     private static final Map<UUID, Integer> DEBOUNCE = new ConcurrentHashMap<>();
     private static final int DEBOUNCE_TICKS = 60; // ~3s
 
-    /** Presence re-check cadence. */
-    private static final int PRESENCE_CHECK_PERIOD = 40; // 2s
+    /**
+     * Presence re-check cadence. Equip changes arrive through CosmeticEquipEvents, so this is
+     * only a safety net for drift (e.g. a pet removed by another mod).
+     */
+    private static final int PRESENCE_CHECK_PERIOD = 20 * 30; // 30s
 
     /** Interaction cooldown for "petting" w/ empty hand (blocks shears/buckets/etc.). */
     private static final int INTERACT_COOLDOWN_TICKS = 20 * 3; // 3s
 
-    /** Stale pet cleanup: timeout in ticks (5 minutes = 6000 ticks). */
-    private static final int STALE_PET_TIMEOUT_TICKS = 20 * 60 * 5; // 5 minutes
     
     /** Orphan safety timeout: how long a pet can exist without owner validation before being considered orphaned (10 minutes). */
     private static final int ORPHAN_SAFETY_TIMEOUT_TICKS = 20 * 60 * 10; // 10 minutes
@@ -90,6 +104,18 @@ public class PetManager {
     /** Periodic cleanup sweep cadence (every 5 minutes = 6000 ticks). */
     private static final int CLEANUP_SWEEP_PERIOD_TICKS = 20 * 60 * 5; // 5 minutes
 
+    /** Per-tick time budget for the periodic sweep; the remainder carries over to the next tick. */
+    private static final long CLEANUP_SWEEP_BUDGET_NANOS = 250_000L; // 0.25 ms
+
+    private static final CosmeticsMetrics.Timer SERVER_TICK_TIME = CosmeticsMetrics.timer("server.pets.tick");
+    private static final CosmeticsMetrics.Timer PLAYER_TICK_TIME = CosmeticsMetrics.timer("server.pets.player_tick");
+
+    static {
+        CosmeticsMetrics.gauge("server.pets.active", ACTIVE_PETS::size);
+        CosmeticsMetrics.gauge("server.pets.tracked", TrackedPetRegistry::size);
+        CosmeticsMetrics.gauge("server.pets.low_detail", PetAiLod::lowDetailCount);
+    }
+
 private static String normalizeVillagerTypeKey(String key) {
     if (key == null || key.isBlank()) return "minecraft:plains";
     ResourceLocation rl = ResourceLocation.tryParse(key);
@@ -224,8 +250,8 @@ private static String normalizeVillagerTypeKey(String key) {
             ResourceKey<Level> dimensionKey = level.dimension();
             int dimensionRemoved = 0;
 
-            // Iterate all entities in each level
-            for (Entity entity : level.getAllEntities()) {
+            // Only the cosmetic pets tracked in this level
+            for (Entity entity : TrackedPetRegistry.snapshot(dimensionKey)) {
                 // Skip if not a CosmeticsLite pet
                 if (!isCosmeticsLitePet(entity)) {
                     continue;
@@ -345,6 +371,7 @@ private static String normalizeVillagerTypeKey(String key) {
 
     public static void cleanupPlayer(UUID playerId) {
         despawnPet(playerId, null);
+        PetAiLod.forgetOwner(playerId);
         LOGIN_WARMUP.remove(playerId);
         DEBOUNCE.remove(playerId);
         LAST_DESIRED.remove(playerId);
@@ -382,20 +409,25 @@ private static String normalizeVillagerTypeKey(String key) {
         sp.getServer().execute(() -> updatePlayerPet(sp));
     }
 
-    @SubscribeEvent
-    public static void onRespawn(PlayerEvent.PlayerRespawnEvent e) {
-        if (e.getEntity() instanceof ServerPlayer sp) {
-            DEBOUNCE.put(sp.getUUID(), 0);
-            updatePlayerPet(sp);
-        }
-    }
-
-    @SubscribeEvent
-    public static void onDim(PlayerEvent.PlayerChangedDimensionEvent e) {
-        if (e.getEntity() instanceof ServerPlayer sp) {
-            DEBOUNCE.put(sp.getUUID(), 0);
-            updatePlayerPet(sp);
+    /**
+     * Equip-change listener (registered in CosmeticsLite). Replaces the old respawn/dimension
+     * handlers and the direct calls from PacketEquipRequest.
+     */
+    public static void onEquipChanged(CosmeticEquipEvents.EquipChanged e) {
+        if (!e.touched(PlayerData.TYPE_PETS)) return;
+        ServerPlayer sp = e.player();
+        switch (e.cause()) {
+            case LOGIN -> { return; } // onLogin owns warm-up + adopt sequencing
+            case CLONE -> {
+                // New player entity is not in its level yet; refresh next tick
+                sp.level().getServer().execute(() -> updatePlayerPet(sp));
+                return;
+            }
+            default -> { }
         }
+        // Ensure immediate spawn even if a prior spawn just happened
+        DEBOUNCE.put(sp.getUUID(), 0);
+        updatePlayerPet(sp);
     }
 
     @SubscribeEvent
@@ -409,7 +441,17 @@ private static String normalizeVillagerTypeKey(String key) {
     @SubscribeEvent
     public static void onPlayerTick(TickEvent.PlayerTickEvent e) {
         if (!(e.player instanceof ServerPlayer sp)) return;
+        if (e.phase != TickEvent.Phase.END) {
+            tickPlayer(sp, e.phase);
+            return;
+        }
+        // One sample per player tick: END only, where the presence check runs
+        long start = System.nanoTime();
+        tickPlayer(sp, e.phase);
+        PLAYER_TICK_TIME.recordSince(start);
+    }
 
+    private static void tickPlayer(ServerPlayer sp, TickEvent.Phase phase) {
         // Warm-up: allow frequent updates so Random (if used) wins once PD is ready
         Integer warm = LOGIN_WARMUP.get(sp.getUUID());
         if (warm != null && warm > 0) {
@@ -425,7 +467,7 @@ private static String normalizeVillagerTypeKey(String key) {
             DEBOUNCE.put(sp.getUUID(), db - 1);
         }
 
-        if (e.phase != TickEvent.Phase.END) return;
+        if (phase != TickEvent.Phase.END) return;
         if (sp.tickCount % PRESENCE_CHECK_PERIOD != 0) return;
 
         updatePlayerPet(sp);
@@ -435,7 +477,39 @@ private static String normalizeVillagerTypeKey(String key) {
     public static void onEntityJoin(EntityJoinLevelEvent e) {
         if (e.getLevel().isClientSide()) return;
         Entity ent = e.getEntity();
-        if (isCosmeticPet(ent)) applyCosmeticSafety(ent);
+        // Tagged vanilla pets coming back from disk / another dimension: index once here,
+        // so the per-event checks below never read NBT.
+        if (!(ent instanceof CosmeticPet) && ent.getPersistentData().getCompound(ENBT_ROOT).hasUUID(ENBT_OWNER)) {
+            TAGGED_PET_IDS.add(ent.getId());
+        }
+        if (isCosmeticPet(ent)) {
+            TrackedPetRegistry.track(ent);
+            applyCosmeticSafety(ent);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent e) {
+        if (e.getLevel().isClientSide()) return;
+        Entity ent = e.getEntity();
+        if (ent instanceof CosmeticPet || TAGGED_PET_IDS.remove(ent.getId())) {
+            TrackedPetRegistry.untrack(ent);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload e) {
+        if (e.getLevel() instanceof ServerLevel level) {
+            TrackedPetRegistry.clearLevel(level.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent e) {
+        TAGGED_PET_IDS.clear();
+        TrackedPetRegistry.clear();
+        PetMaintenanceScheduler.reset();
+        PetAiLod.reset();
     }
 
     // No damage IN or OUT.
@@ -479,114 +553,106 @@ private static String normalizeVillagerTypeKey(String key) {
         
         MinecraftServer server = e.getServer();
         if (server == null) return;
+        long start = System.nanoTime();
         
-        // Periodic cleanup sweep (every 5 minutes)
+        // Periodic cleanup sweep (every 5 minutes), spread over ticks
         if (server.getTickCount() % CLEANUP_SWEEP_PERIOD_TICKS == 0) {
-            cleanupOrphanedPets(server);
+            TrackedPetRegistry.beginSweep();
+        }
+        if (TrackedPetRegistry.sweeping()) {
+            long now = server.overworld().getGameTime();
+            int removed = TrackedPetRegistry.drainSweep(CLEANUP_SWEEP_BUDGET_NANOS,
+                    pet -> removeIfOrphaned(pet, server, now));
+            if (removed > 0) {
+                LOGGER.info("[PetManager] Cleanup sweep removed {} orphaned pet(s)", removed);
+            }
         }
         
-        // Teleport distance threshold
-        final double TELEPORT_DIST = 48.0;
-        
-        for (Entity ent : ACTIVE_PETS.values()) {
-            if (!(ent instanceof LivingEntity le) || le.isRemoved()) continue;
+        // Per-pet maintenance, time-sliced across ticks
+        PetMaintenanceScheduler.tick(server, ACTIVE_PETS);
+        SERVER_TICK_TIME.recordSince(start);
+    }
 
-            // Blaze-specific: heal if wet
-            if (le instanceof Blaze && le.isInWaterOrRain()) {
-                le.setHealth(le.getMaxHealth());
-                le.clearFire();
+    /** Leash distance: farther than this from the owner teleports the pet back. */
+    private static final double TELEPORT_DIST = 48.0;
+
+    /** Leash distance while the pet is in AI low detail (teleport instead of long paths). */
+    private static final double LOD_LEASH_DIST = 12.0;
+
+    /**
+     * One maintenance visit for an active pet ({@link PetMaintenanceScheduler}, every
+     * {@link PetMaintenanceScheduler#CYCLE_TICKS} ticks). {@code visit} is the pet's visit number;
+     * tasks run on every 2nd (leash, ~20 ticks), 3rd (de-aggro, ~30) and 4th (strip goals, ~40)
+     * visit.
+     */
+    static void maintainPet(MinecraftServer server, UUID ownerId, Entity ent, long visit) {
+        if (!(ent instanceof LivingEntity le) || le.isRemoved()) return;
+
+        // Blaze-specific: heal if wet
+        if (le instanceof Blaze && le.isInWaterOrRain()) {
+            le.setHealth(le.getMaxHealth());
+            le.clearFire();
+        }
+
+        // De-aggro maintenance: clear aggression regularly
+        if (visit % 3 == 0 && ent instanceof Mob mob) {
+            // Clear target
+            mob.setTarget(null);
+
+            // Stop navigation if not actively following
+            if (mob.getNavigation().isDone()) {
+                mob.getNavigation().stop();
             }
-            
-            // De-aggro maintenance: clear aggression regularly (every 30 ticks)
-            if (ent.tickCount % 30 == 0 && ent instanceof Mob mob) {
-                // Clear target
-                mob.setTarget(null);
-                
-                // Stop navigation if not actively following
-                if (mob.getNavigation().isDone()) {
+
+            // Clear revenge memory
+            mob.setLastHurtByMob(null);
+        }
+
+        // Combat goals are filtered on join; only re-filter if something added goals since
+        if (visit % 4 == 0 && ent instanceof Mob mob) {
+            CombatGoalFilter.recheck(mob);
+        }
+
+        // ACTIVE_PETS is keyed by owner, so one player lookup covers the LOD and leash checks
+        ServerPlayer owner = server.getPlayerList().getPlayer(ownerId);
+        if (owner != null && owner.isRemoved()) owner = null;
+
+        // AI level-of-detail: unobserved or owner AFK -> wander/look goals off, short leash
+        boolean lowDetail = ent instanceof Mob mob && PetAiLod.update(mob, owner, server.getTickCount());
+
+        // Leash/teleport maintenance: check distance from owner
+        if (visit % 2 != 0 && !lowDetail) return;
+        double leash = lowDetail ? LOD_LEASH_DIST : TELEPORT_DIST;
+
+        if (owner != null) {
+            // Owner exists and is online
+            if (owner.level() == ent.level()) {
+                // Same dimension - check distance (squared, no sqrt)
+                if (ent.distanceToSqr(owner) > leash * leash) {
+                    // Too far - teleport near owner
+                    Vec3 safePos = findSafeSpawnPosition((ServerLevel) ent.level(), owner.position());
+                    ent.teleportTo(safePos.x, safePos.y, safePos.z);
+
+                    if (ent instanceof Mob mob) {
+                        mob.getNavigation().stop();
+                    }
+                }
+            } else {
+                // Different dimension - pet should not exist there
+                // For now, we'll just stop navigation
+                if (ent instanceof Mob mob) {
                     mob.getNavigation().stop();
+                    mob.setTarget(null);
                 }
-                
-                // Clear revenge memory
-                mob.setLastHurtByMob(null);
-            }
-            
-            // Strip combat goals periodically (every 40 ticks)
-            if (ent.tickCount % 40 == 0 && ent instanceof Mob mob) {
-                stripCombatGoals(mob);
             }
-            
-            // Leash/teleport maintenance: check distance from owner (every 20 ticks)
-            if (ent.tickCount % 20 == 0) {
-                CompoundTag tag = ent.getPersistentData().getCompound(ENBT_ROOT);
-                if (tag.hasUUID(ENBT_OWNER)) {
-                    UUID ownerId = tag.getUUID(ENBT_OWNER);
-                    
-                    // Try to find owner in the same dimension
-                    ServerPlayer owner = null;
-                    if (ent.level() instanceof ServerLevel serverLevel) {
-                        owner = serverLevel.getServer().getPlayerList().getPlayer(ownerId);
-                    }
-                    
-                    if (owner != null && !owner.isRemoved()) {
-                        // Owner exists and is online
-                        if (owner.level() == ent.level()) {
-                            // Same dimension - check distance
-                            double distance = ent.distanceTo(owner);
-                            
-                            if (distance > TELEPORT_DIST) {
-                                // Too far - teleport near owner
-                                Vec3 safePos = findSafeSpawnPosition((ServerLevel) ent.level(), owner.position());
-                                ent.teleportTo(safePos.x, safePos.y, safePos.z);
-                                
-                                if (ent instanceof Mob mob) {
-                                    mob.getNavigation().stop();
-                                }
-                            }
-                        } else {
-                            // Different dimension - pet should not exist there
-                            // Optionally despawn or do nothing (safe if pets are non-hostile)
-                            // For now, we'll just stop navigation
-                            if (ent instanceof Mob mob) {
-                                mob.getNavigation().stop();
-                                mob.setTarget(null);
-                            }
-                        }
-                    } else {
-                        // Owner missing/offline - stop navigation and clear target
-                        // Pet will remain but won't roam
-                        if (ent instanceof Mob mob) {
-                            mob.getNavigation().stop();
-                            mob.setTarget(null);
-                        }
-                        
-                        // Optional: Clean up stale pets whose owner has been offline for too long
-                        // Check every 200 ticks (~10 seconds) to avoid excessive checks
-                        if (ent.tickCount % 200 == 0) {
-                            // Check if owner is truly offline (not just in different dimension)
-                            boolean ownerOnline = false;
-                            if (ent.level() instanceof ServerLevel serverLevel) {
-                                ServerPlayer onlineOwner = serverLevel.getServer().getPlayerList().getPlayer(ownerId);
-                                ownerOnline = (onlineOwner != null && !onlineOwner.isRemoved());
-                            }
-                            
-                            if (!ownerOnline) {
-                                // Owner is offline - check if pet has been abandoned for too long
-                                // Only check pets that aren't in ACTIVE_PETS (orphaned pets)
-                                if (!ACTIVE_PETS.containsValue(ent)) {
-                                    // This pet is not actively tracked - it's orphaned
-                                    // Remove it after timeout to prevent abandoned invulnerable pets
-                                    if (ent.tickCount > STALE_PET_TIMEOUT_TICKS) {
-                                        LOGGER.info("[PetManager] Removing stale cosmetic pet {} (owner offline for >{} minutes)", 
-                                                ent.getClass().getSimpleName(), STALE_PET_TIMEOUT_TICKS / (20 * 60));
-                                        ent.discard();
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        } else {
+            // Owner missing/offline - stop navigation and clear target
+            // Pet will remain but won't roam
+            if (ent instanceof Mob mob) {
+                mob.getNavigation().stop();
+                mob.setTarget(null);
             }
+            // Orphans (pets no longer in ACTIVE_PETS) are removed by the cleanup sweep
         }
     }
 
@@ -688,7 +754,7 @@ private static String normalizeVillagerTypeKey(String key) {
             // Variant
             variant = pd.getEquippedVariant(PlayerData.TYPE_PETS); // -1 if unused
             if (variant >= 0) {
-                trySetInt(pet, "setVariant", variant);
+                PetStyleAccess.setIntVariant(pet, variant);
                 putEntityVariantNBT(pet, variant);
             }
 
@@ -915,9 +981,7 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     }
 
     private static DyeColor tryParseDye(String name) {
-        if (name == null || name.isEmpty()) return null;
-        for (DyeColor c : DyeColor.values()) if (c.getName().equalsIgnoreCase(name)) return c;
-        return null;
+        return PetStyleAccess.dyeByName(name);
     }
 
     private static ResourceLocation parseRL(String key) {
@@ -932,62 +996,31 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
 
     private static void applyHorseExtra(Entity pet, CompoundTag extra) {
         if (!(pet instanceof net.minecraft.world.entity.animal.horse.Horse) || extra == null || extra.isEmpty()) return;
+        if (!PetStyleAccess.horseCoatSupported()) return;
 
-        try {
-            Class<?> horseCls = Class.forName("net.minecraft.world.entity.animal.horse.Horse");
-            Class<?> variantCls = Class.forName("net.minecraft.world.entity.animal.horse.Horse$Variant");
-            Class<?> colorCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseColor");
-            Class<?> marksCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseMarkings");
-
-            Object[] colors = colorCls.getEnumConstants();
-            Object[] marks  = marksCls.getEnumConstants();
-
-            CompoundTag horse = extra.getCompound("horse");
-            int ci = horse.contains("color")    ? clamp(horse.getInt("color"), 0, colors.length - 1) : 0;
-            int mi = horse.contains("markings") ? clamp(horse.getInt("markings"), 0, marks.length - 1) : 0;
-
-            Object color    = colors[ci];
-            Object markings = marks[mi];
-
-            var ctor = variantCls.getDeclaredConstructor(colorCls, marksCls);
-            Object variant = ctor.newInstance(color, markings);
-
-            horseCls.getMethod("setVariant", variantCls).invoke(pet, variant);
+        CompoundTag horse = extra.getCompound("horse");
+        int ci = horse.contains("color")    ? clamp(horse.getInt("color"), 0, PetStyleAccess.horseColorCount() - 1) : 0;
+        int mi = horse.contains("markings") ? clamp(horse.getInt("markings"), 0, PetStyleAccess.horseMarkingsCount() - 1) : 0;
 
+        if (PetStyleAccess.setHorseCoat(pet, ci, mi)) {
             // Mirror to ENBT for quick adopt (pack color/markings hint)
             CompoundTag tag = pet.getPersistentData().getCompound(ENBT_ROOT);
             tag.putInt(ENBT_VAR, (ci << 8) | mi);
             pet.getPersistentData().put(ENBT_ROOT, tag);
-
-        } catch (Exception ignored) {}
+        }
     }
 
     private static CompoundTag captureHorseExtra(Entity pet) {
         CompoundTag out = new CompoundTag();
         if (!(pet instanceof net.minecraft.world.entity.animal.horse.Horse)) return out;
 
-        try {
-            Class<?> horseCls   = Class.forName("net.minecraft.world.entity.animal.horse.Horse");
-            Class<?> variantCls = Class.forName("net.minecraft.world.entity.animal.horse.Horse$Variant");
-            Class<?> colorCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseColor");
-            Class<?> marksCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseMarkings");
-
-            Object variant = horseCls.getMethod("getVariant").invoke(pet);
-            if (variant == null) return out;
-
-            Object color    = variantCls.getMethod("color").invoke(variant);
-            Object markings = variantCls.getMethod("markings").invoke(variant);
-
-            int cOrd = (int) colorCls.getMethod("ordinal").invoke(color);
-            int mOrd = (int) marksCls.getMethod("ordinal").invoke(markings);
+        int coat = PetStyleAccess.getHorseCoat(pet);
+        if (coat < 0) return out;
 
-            CompoundTag horse = new CompoundTag();
-            horse.putInt("color", cOrd);
-            horse.putInt("markings", mOrd);
-            out.put("horse", horse);
-            return out;
-
-        } catch (Exception ignored) {}
+        CompoundTag horse = new CompoundTag();
+        horse.putInt("color", coat >> 8);
+        horse.putInt("markings", coat & 0xFF);
+        out.put("horse", horse);
         return out;
     }
 
@@ -1040,12 +1073,7 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     }
 
     private static Integer getEntityLiveVariant(Entity pet) {
-        try {
-            var m = pet.getClass().getMethod("getVariant");
-            Object v = m.invoke(pet);
-            if (v instanceof Number n) return n.intValue();
-        } catch (Exception ignored) {}
-        return null;
+        return PetStyleAccess.getIntVariant(pet);
     }
 
     private static void putEntityDyeNBT(Entity pet, DyeColor dye) {
@@ -1075,49 +1103,7 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
         }
         if (e instanceof Mob mob) {
             mob.setPersistenceRequired();
-            stripCombatGoals(mob);
-        }
-    }
-
-    private static void stripCombatGoals(Mob mob) {
-        try {
-            var goals = new ArrayList<>(mob.goalSelector.getAvailableGoals());
-            for (var w : goals) {
-                var g = w.getGoal();
-                String n = g.getClass().getName();
-                if (n.contains("MeleeAttack") || n.contains("Ranged") || n.contains("Shoot")
-                        || n.contains("Projectile") || n.contains("LeapAt") || n.contains("Charge")) {
-                    mob.goalSelector.removeGoal(g);
-                }
-            }
-            var targets = new ArrayList<>(mob.targetSelector.getAvailableGoals());
-            for (var w : targets) {
-                var g = w.getGoal();
-                String n = g.getClass().getName();
-                if (n.contains("NearestAttackableTarget") || n.contains("HurtByTarget") || n.contains("ResetUniversalAnger")) {
-                    mob.targetSelector.removeGoal(g);
-                }
-            }
-            if (mob instanceof IronGolem) {
-                var goals2 = new ArrayList<>(mob.goalSelector.getAvailableGoals());
-                for (var w2 : goals2) {
-                    var g = w2.getGoal();
-                    String n = g.getClass().getName();
-                    if (n.contains("MeleeAttack") || n.contains("MoveToTarget") || n.contains("DefendVillage")) {
-                        mob.goalSelector.removeGoal(g);
-                    }
-                }
-                var targets2 = new ArrayList<>(mob.targetSelector.getAvailableGoals());
-                for (var w2 : targets2) {
-                    var g = w2.getGoal();
-                    String n = g.getClass().getName();
-                    if (n.contains("NearestAttackableTarget") || n.contains("HurtByTarget") || n.contains("DefendVillage")) {
-                        mob.targetSelector.removeGoal(g);
-                    }
-                }
-            }
-        } catch (Throwable t) {
-            LOGGER.warn("[PetManager] stripCombatGoals failed on {}: {}", mob.getClass().getSimpleName(), t.toString());
+            CombatGoalFilter.filter(mob);
         }
     }
 
@@ -1132,6 +1118,8 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     }
 
     private static void tagOwner(Entity e, ServerPlayer owner, ResourceLocation petType) {
+        if (!(e instanceof CosmeticPet)) TAGGED_PET_IDS.add(e.getId());
+        TrackedPetRegistry.track(e);
         CompoundTag tag = e.getPersistentData().getCompound(ENBT_ROOT);
         tag.putUUID(ENBT_OWNER, owner.getUUID());
         if (petType != null) {
@@ -1155,33 +1143,19 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
         }
     }
 
-    private static boolean isCosmeticPet(Entity e) {
+    /**
+     * True for CosmeticsLite pets: a {@link CosmeticPet} class, or (server side) a vanilla entity
+     * carrying our owner tag. Cheap enough for every combat event.
+     */
+    public static boolean isCosmeticPet(Entity e) {
         if (e == null) return false;
-        if (ACTIVE_PETS.containsValue(e)) return true;
-        CompoundTag tag = e.getPersistentData().getCompound(ENBT_ROOT);
-        if (tag.hasUUID(ENBT_OWNER)) return true;
-        return e.getClass().getSimpleName().startsWith("CosmeticPet");
+        if (e instanceof CosmeticPet) return true;
+        return !e.level().isClientSide() && TAGGED_PET_IDS.contains(e.getId());
     }
 
-    /**
-     * Check if an entity is a CosmeticsLite pet.
-     * A pet is considered a CosmeticsLite pet if:
-     * - It exists in ACTIVE_PETS, OR
-     * - It has ENBT_OWNER tag, OR
-     * - Its class name starts with "CosmeticPet"
-     */
+    /** {@link #isCosmeticPet}, excluding removed entities. */
     private static boolean isCosmeticsLitePet(Entity e) {
-        if (e == null || e.isRemoved()) return false;
-        
-        // Check if in ACTIVE_PETS
-        if (ACTIVE_PETS.containsValue(e)) return true;
-        
-        // Check if has ENBT_OWNER tag
-        CompoundTag tag = e.getPersistentData().getCompound(ENBT_ROOT);
-        if (tag.hasUUID(ENBT_OWNER)) return true;
-        
-        // Check if class name starts with "CosmeticPet"
-        return e.getClass().getSimpleName().startsWith("CosmeticPet");
+        return e != null && !e.isRemoved() && isCosmeticPet(e);
     }
 
 
@@ -1190,76 +1164,18 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     /* ====================================================================== */
 
     private static Entity createPetEntity(ServerLevel level, ResourceLocation petId) {
-        String id = petId.toString();
-
-        // Originals
-        if ("cosmeticslite:pet_wolf".equals(id))        return new CosmeticPetWolf(PetEntities.COSMETIC_PET_WOLF.get(), level);
-        if ("cosmeticslite:pet_cat".equals(id))         return new CosmeticPetCat(PetEntities.COSMETIC_PET_CAT.get(), level);
-        if ("cosmeticslite:pet_chicken".equals(id))     return new CosmeticPetChicken(PetEntities.COSMETIC_PET_CHICKEN.get(), level);
-        if ("cosmeticslite:pet_fox".equals(id))         return new CosmeticPetFox(PetEntities.COSMETIC_PET_FOX.get(), level);
-        if ("cosmeticslite:pet_axolotl".equals(id))     return new CosmeticPetAxolotl(PetEntities.COSMETIC_PET_AXOLOTL.get(), level);
-        if ("cosmeticslite:pet_bee".equals(id))         return new CosmeticPetBee(PetEntities.COSMETIC_PET_BEE.get(), level);
-        if ("cosmeticslite:pet_rabbit".equals(id))      return new CosmeticPetRabbit(PetEntities.COSMETIC_PET_RABBIT.get(), level);
-        if ("cosmeticslite:pet_pig".equals(id))         return new CosmeticPetPig(PetEntities.COSMETIC_PET_PIG.get(), level);
-        if ("cosmeticslite:pet_sheep".equals(id))       return new CosmeticPetSheep(PetEntities.COSMETIC_PET_SHEEP.get(), level);
-        if ("cosmeticslite:pet_panda".equals(id))       return new CosmeticPetPanda(PetEntities.COSMETIC_PET_PANDA.get(), level);
-        if ("cosmeticslite:pet_parrot".equals(id))      return new CosmeticPetParrot(PetEntities.COSMETIC_PET_PARROT.get(), level);
-
-        // New pets
-        if ("cosmeticslite:pet_horse".equals(id))       return new CosmeticPetHorse(PetEntities.COSMETIC_PET_HORSE.get(), level);
-        if ("cosmeticslite:pet_llama".equals(id))       return new CosmeticPetLlama(PetEntities.COSMETIC_PET_LLAMA.get(), level);
-        if ("cosmeticslite:pet_frog".equals(id))        return new CosmeticPetFrog(PetEntities.COSMETIC_PET_FROG.get(), level);
-        if ("cosmeticslite:pet_mooshroom".equals(id))   return new CosmeticPetMooshroom(PetEntities.COSMETIC_PET_MOOSHROOM.get(), level);
-        if ("cosmeticslite:pet_donkey".equals(id))      return new CosmeticPetDonkey(PetEntities.COSMETIC_PET_DONKEY.get(), level);
-
-        // Extended (future wiring)
-        if ("cosmeticslite:pet_mule".equals(id))        return new CosmeticPetMule(PetEntities.COSMETIC_PET_MULE.get(), level);
-        if ("cosmeticslite:pet_camel".equals(id))       return new CosmeticPetCamel(PetEntities.COSMETIC_PET_CAMEL.get(), level);
-        if ("cosmeticslite:pet_goat".equals(id))        return new CosmeticPetGoat(PetEntities.COSMETIC_PET_GOAT.get(), level);
-        if ("cosmeticslite:pet_ocelot".equals(id))      return new CosmeticPetOcelot(PetEntities.COSMETIC_PET_OCELOT.get(), level);
-        if ("cosmeticslite:pet_cow".equals(id))         return new CosmeticPetCow(PetEntities.COSMETIC_PET_COW.get(), level);
-        if ("cosmeticslite:pet_villager".equals(id))    return new CosmeticPetVillager(PetEntities.COSMETIC_PET_VILLAGER.get(), level);
-        if ("cosmeticslite:pet_vex".equals(id))         return new CosmeticPetVex(PetEntities.COSMETIC_PET_VEX.get(), level);
-        if ("cosmeticslite:pet_blaze".equals(id))       return new CosmeticPetBlaze(PetEntities.COSMETIC_PET_BLAZE.get(), level);
-        if ("cosmeticslite:pet_snow_golem".equals(id))  return new CosmeticPetSnowGolem(PetEntities.COSMETIC_PET_SNOW_GOLEM.get(), level);
-        if ("cosmeticslite:pet_iron_golem".equals(id))  return new CosmeticPetIronGolem(PetEntities.COSMETIC_PET_IRON_GOLEM.get(), level);
-
-        return null;
+        EntityType<?> type = PetEntities.petType(petId);
+        return type == null ? null : type.create(level);
     }
 
     private static boolean shouldSpawnRealPet(ResourceLocation petId) {
-        return petId != null && petId.toString().startsWith(CosmeticsLite.MODID + ":pet_");
+        return PetEntities.isPetId(petId);
     }
 
     private static boolean isCorrectPetType(Entity currentPet, ResourceLocation desiredPetId) {
-        if (currentPet == null || desiredPetId == null) return false;
-        String s = desiredPetId.toString();
-        return (s.endsWith("wolf")       && currentPet instanceof CosmeticPetWolf)
-            || (s.endsWith("cat")        && currentPet instanceof CosmeticPetCat)
-            || (s.endsWith("chicken")    && currentPet instanceof CosmeticPetChicken)
-            || (s.endsWith("fox")        && currentPet instanceof CosmeticPetFox)
-            || (s.endsWith("axolotl")    && currentPet instanceof CosmeticPetAxolotl)
-            || (s.endsWith("bee")        && currentPet instanceof CosmeticPetBee)
-            || (s.endsWith("rabbit")     && currentPet instanceof CosmeticPetRabbit)
-            || (s.endsWith("pig")        && currentPet instanceof CosmeticPetPig)
-            || (s.endsWith("sheep")      && currentPet instanceof CosmeticPetSheep)
-            || (s.endsWith("panda")      && currentPet instanceof CosmeticPetPanda)
-            || (s.endsWith("parrot")     && currentPet instanceof CosmeticPetParrot)
-            || (s.endsWith("horse")      && currentPet instanceof CosmeticPetHorse)
-            || (s.endsWith("llama")      && currentPet instanceof CosmeticPetLlama)
-            || (s.endsWith("frog")       && currentPet instanceof CosmeticPetFrog)
-            || (s.endsWith("mooshroom")  && currentPet instanceof CosmeticPetMooshroom)
-            || (s.endsWith("donkey")     && currentPet instanceof CosmeticPetDonkey)
-            || (s.endsWith("mule")       && currentPet instanceof CosmeticPetMule)
-            || (s.endsWith("camel")      && currentPet instanceof CosmeticPetCamel)
-            || (s.endsWith("goat")       && currentPet instanceof CosmeticPetGoat)
-            || (s.endsWith("ocelot")     && currentPet instanceof CosmeticPetOcelot)
-            || (s.endsWith("cow")        && currentPet instanceof CosmeticPetCow)
-            || (s.endsWith("villager")   && currentPet instanceof CosmeticPetVillager)
-            || (s.endsWith("vex")        && currentPet instanceof CosmeticPetVex)
-            || (s.endsWith("blaze")      && currentPet instanceof CosmeticPetBlaze)
-            || (s.endsWith("snow_golem") && currentPet instanceof CosmeticPetSnowGolem)
-            || (s.endsWith("iron_golem") && currentPet instanceof CosmeticPetIronGolem);
+        if (currentPet == null) return false;
+        EntityType<?> type = PetEntities.petType(desiredPetId);
+        return type != null && currentPet.getType() == type;
     }
 
     /* ---------------------------- placement -------------------------------- */
@@ -1397,55 +1313,15 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     }
 
     /* ====================================================================== */
-    /* Small utility: mapping + reflection helpers                            */
+    /* Small utility: dye mapping (see PetStyleAccess)                        */
     /* ====================================================================== */
 
-    private static void trySetInt(Entity entity, String method, int value) {
-        try {
-            Method m = entity.getClass().getMethod(method, int.class);
-            m.invoke(entity, value);
-        } catch (Exception ignored) {}
-    }
-
     private static DyeColor argbToNearestDye(int argb) {
-        int r = (argb >> 16) & 0xFF, g = (argb >> 8) & 0xFF, b = argb & 0xFF;
-        DyeColor best = null;
-        double bestD = Double.MAX_VALUE;
-        for (DyeColor dye : DyeColor.values()) {
-            int[] c = dyeRgb(dye);
-            double d = sq(r - c[0]) + sq(g - c[1]) + sq(b - c[2]);
-            if (d < bestD) { bestD = d; best = dye; }
-        }
-        return best;
+        return PetStyleAccess.nearestDye(argb);
     }
 
     private static int dyeToARGB(DyeColor dye) {
-        int[] c = dyeRgb(dye);
-        return (0xFF << 24) | (c[0] << 16) | (c[1] << 8) | c[2];
-    }
-
-    private static double sq(double x) { return x * x; }
-
-    private static int[] dyeRgb(DyeColor dye) {
-        switch (dye) {
-            case WHITE:      return new int[]{240, 240, 240};
-            case ORANGE:     return new int[]{235, 136,  68};
-            case MAGENTA:    return new int[]{192,  78, 196};
-            case LIGHT_BLUE: return new int[]{ 74, 152, 212};
-            case YELLOW:     return new int[]{247, 233,  64};
-            case LIME:       return new int[]{128, 199,  31};
-            case PINK:       return new int[]{237, 141, 172};
-            case GRAY:       return new int[]{ 62,  68,  71};
-            case LIGHT_GRAY: return new int[]{149, 156, 161};
-            case CYAN:       return new int[]{ 22, 156, 156};
-            case PURPLE:     return new int[]{122,  42, 174};
-            case BLUE:       return new int[]{ 53,  57, 157};
-            case BROWN:      return new int[]{100,  59,  33};
-            case GREEN:      return new int[]{ 87, 109,  19};
-            case RED:        return new int[]{160,  39,  34};
-            case BLACK:      return new int[]{ 21,  21,  26};
-        }
-        return new int[]{255,255,255};
+        return PetStyleAccess.dyeToARGB(dye);
     }
 
     /* ====================================================================== */
@@ -1567,7 +1443,7 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
     }
     
     /**
-     * Perform a light sweep over loaded entities to remove orphaned pets.
+     * Sweep the tracked pets of every loaded level in one go, removing orphans.
      * Only removes pets that fail the orphan definition.
      * Does not touch pets with owners currently online.
      * 
@@ -1580,27 +1456,10 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
         int removed = 0;
         long currentTime = server.overworld().getGameTime();
         
-        // Iterate all loaded server levels
+        // Iterate the tracked pets of each loaded level (snapshot, so removal is safe)
         for (ServerLevel level : server.getAllLevels()) {
-            List<Entity> toRemove = new ArrayList<>();
-            
-            // First pass: identify orphaned pets
-            for (Entity entity : level.getAllEntities()) {
-                if (isOrphanedPet(entity, server, currentTime)) {
-                    toRemove.add(entity);
-                }
-            }
-            
-            // Second pass: remove orphaned pets
-            for (Entity pet : toRemove) {
-                if (pet instanceof Mob mob) {
-                    mob.getNavigation().stop();
-                    mob.setTarget(null);
-                }
-                pet.discard();
-                removed++;
-                LOGGER.info("[PetManager] Removed orphaned pet {} in dimension {}", 
-                    pet.getClass().getSimpleName(), level.dimension().location());
+            for (Entity pet : TrackedPetRegistry.snapshot(level.dimension())) {
+                if (removeIfOrphaned(pet, server, currentTime)) removed++;
             }
         }
         
@@ -1611,6 +1470,19 @@ if (pet instanceof net.minecraft.world.entity.npc.Villager villager) {
         return removed;
     }
     
+    /** Discard {@code pet} if it fails the orphan definition. */
+    private static boolean removeIfOrphaned(Entity pet, MinecraftServer server, long currentTime) {
+        if (!isOrphanedPet(pet, server, currentTime)) return false;
+        if (pet instanceof Mob mob) {
+            mob.getNavigation().stop();
+            mob.setTarget(null);
+        }
+        pet.discard();
+        LOGGER.info("[PetManager] Removed orphaned pet {} in dimension {}",
+            pet.getClass().getSimpleName(), pet.level().dimension().location());
+        return true;
+    }
+
     /**
      * Check if a ResourceLocation represents "air" (unset).
      */
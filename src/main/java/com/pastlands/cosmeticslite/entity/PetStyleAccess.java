@@ -0,0 +1,245 @@
+package com.pastlands.cosmeticslite.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.DyeColor;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Cached accessors for applying pet style (variant, horse coat, dye colour).
+ *
+ * Entity methods that are not part of a common type (e.g. an int {@code setVariant}) are looked
+ * up once per entity class via {@link ClassValue} and kept as {@link MethodHandle}s, including
+ * the "no such method" answer, so re-applying a style never reflects or throws. Dye matching uses
+ * a fixed palette and a precomputed RGB555 -> {@link DyeColor} table, so it does not allocate.
+ */
+final class PetStyleAccess {
+
+    private PetStyleAccess() {}
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    // --------------------------------------------------------------------------------------------
+    // int variant accessors
+    // --------------------------------------------------------------------------------------------
+
+    /** {@code setVariant(int)} per class, typed {@code (Entity,int)void}. */
+    private static final ClassValue<Optional<MethodHandle>> SET_INT_VARIANT = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            try {
+                Method m = type.getMethod("setVariant", int.class);
+                return Optional.of(LOOKUP.unreflect(m)
+                        .asType(MethodType.methodType(void.class, Entity.class, int.class)));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    /** Numeric {@code getVariant()} per class, typed {@code (Entity)Object}. */
+    private static final ClassValue<Optional<MethodHandle>> GET_NUMERIC_VARIANT = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            try {
+                Method m = type.getMethod("getVariant");
+                Class<?> ret = m.getReturnType();
+                boolean numeric = ret == int.class || ret == long.class || ret == short.class || ret == byte.class
+                        || Number.class.isAssignableFrom(ret) || ret == Object.class;
+                if (!numeric) return Optional.empty();
+                return Optional.of(LOOKUP.unreflect(m)
+                        .asType(MethodType.methodType(Object.class, Entity.class)));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    static void setIntVariant(Entity entity, int value) {
+        Optional<MethodHandle> h = SET_INT_VARIANT.get(entity.getClass());
+        if (h.isEmpty()) return;
+        try {
+            h.get().invokeExact(entity, value);
+        } catch (Throwable ignored) {}
+    }
+
+    @Nullable
+    static Integer getIntVariant(Entity entity) {
+        Optional<MethodHandle> h = GET_NUMERIC_VARIANT.get(entity.getClass());
+        if (h.isEmpty()) return null;
+        try {
+            Object v = (Object) h.get().invokeExact(entity);
+            if (v instanceof Number n) return n.intValue();
+        } catch (Throwable ignored) {}
+        return null;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Horse coat (Horse$Variant(color, markings)); resolved once, absent on versions without it
+    // --------------------------------------------------------------------------------------------
+
+    private static final class HorseCoat {
+        static final Object[] COLORS;
+        static final Object[] MARKINGS;
+        /** {@code (Object color, Object markings)Object} */
+        static final MethodHandle NEW_VARIANT;
+        /** {@code (Entity, Object variant)void} */
+        static final MethodHandle SET_VARIANT;
+        /** {@code (Entity)Object} */
+        static final MethodHandle GET_VARIANT;
+        /** {@code (Object variant)Object} */
+        static final MethodHandle COLOR;
+        static final MethodHandle MARKINGS_OF;
+
+        static {
+            Object[] colors = null, marks = null;
+            MethodHandle ctor = null, set = null, get = null, color = null, markings = null;
+            try {
+                Class<?> horseCls   = Class.forName("net.minecraft.world.entity.animal.horse.Horse");
+                Class<?> variantCls = Class.forName("net.minecraft.world.entity.animal.horse.Horse$Variant");
+                Class<?> colorCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseColor");
+                Class<?> marksCls   = Class.forName("net.minecraft.world.entity.animal.horse.HorseMarkings");
+                colors = colorCls.getEnumConstants();
+                marks  = marksCls.getEnumConstants();
+
+                var c = variantCls.getDeclaredConstructor(colorCls, marksCls);
+                c.setAccessible(true);
+                ctor = MethodHandles.lookup().unreflectConstructor(c).asType(
+                        MethodType.methodType(Object.class, Object.class, Object.class));
+                set = LOOKUP.unreflect(horseCls.getMethod("setVariant", variantCls)).asType(
+                        MethodType.methodType(void.class, Entity.class, Object.class));
+                get = LOOKUP.unreflect(horseCls.getMethod("getVariant")).asType(
+                        MethodType.methodType(Object.class, Entity.class));
+                color = LOOKUP.unreflect(variantCls.getMethod("color")).asType(
+                        MethodType.methodType(Object.class, Object.class));
+                markings = LOOKUP.unreflect(variantCls.getMethod("markings")).asType(
+                        MethodType.methodType(Object.class, Object.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                ctor = null;
+            }
+            boolean ok = ctor != null;
+            COLORS      = ok ? colors : null;
+            MARKINGS    = ok ? marks : null;
+            NEW_VARIANT = ok ? ctor : null;
+            SET_VARIANT = ok ? set : null;
+            GET_VARIANT = ok ? get : null;
+            COLOR       = ok ? color : null;
+            MARKINGS_OF = ok ? markings : null;
+        }
+    }
+
+    static boolean horseCoatSupported() {
+        return HorseCoat.NEW_VARIANT != null;
+    }
+
+    static int horseColorCount() {
+        return horseCoatSupported() ? HorseCoat.COLORS.length : 0;
+    }
+
+    static int horseMarkingsCount() {
+        return horseCoatSupported() ? HorseCoat.MARKINGS.length : 0;
+    }
+
+    /** Apply coat {@code color}/{@code markings} ordinals; false if unsupported or it failed. */
+    static boolean setHorseCoat(Entity horse, int color, int markings) {
+        if (!horseCoatSupported()) return false;
+        try {
+            Object variant = (Object) HorseCoat.NEW_VARIANT.invokeExact(HorseCoat.COLORS[color], HorseCoat.MARKINGS[markings]);
+            HorseCoat.SET_VARIANT.invokeExact(horse, variant);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** Coat as {@code (color << 8) | markings}, or -1 if unsupported or unset. */
+    static int getHorseCoat(Entity horse) {
+        if (!horseCoatSupported()) return -1;
+        try {
+            Object variant = (Object) HorseCoat.GET_VARIANT.invokeExact(horse);
+            if (variant == null) return -1;
+            Enum<?> color = (Enum<?>) (Object) HorseCoat.COLOR.invokeExact(variant);
+            Enum<?> markings = (Enum<?>) (Object) HorseCoat.MARKINGS_OF.invokeExact(variant);
+            return (color.ordinal() << 8) | markings.ordinal();
+        } catch (Throwable t) {
+            return -1;
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Dye palette
+    // --------------------------------------------------------------------------------------------
+
+    private static final DyeColor[] DYES = DyeColor.values();
+
+    /** Packed 0xRRGGBB per dye, indexed by {@link DyeColor#getId()}. */
+    private static final int[] DYE_RGB = new int[DYES.length];
+
+    /** Nearest dye id per RGB555 cell (5 bits per channel, 32 KiB). */
+    private static final byte[] NEAREST = new byte[1 << 15];
+
+    static {
+        for (DyeColor dye : DYES) DYE_RGB[dye.getId()] = paletteRgb(dye);
+        for (int cell = 0; cell < NEAREST.length; cell++) {
+            // Cell centre: each 5-bit step covers 8 values
+            int r = ((cell >> 10) & 31) * 8 + 4;
+            int g = ((cell >> 5) & 31) * 8 + 4;
+            int b = (cell & 31) * 8 + 4;
+            NEAREST[cell] = (byte) nearestExact(r, g, b).getId();
+        }
+    }
+
+    static DyeColor nearestDye(int argb) {
+        int cell = ((argb >> 9) & 0x7C00) | ((argb >> 6) & 0x03E0) | ((argb >> 3) & 0x001F);
+        return DyeColor.byId(NEAREST[cell]);
+    }
+
+    static int dyeToARGB(DyeColor dye) {
+        return 0xFF000000 | DYE_RGB[dye.getId()];
+    }
+
+    @Nullable
+    static DyeColor dyeByName(@Nullable String name) {
+        if (name == null || name.isEmpty()) return null;
+        for (DyeColor c : DYES) if (c.getName().equalsIgnoreCase(name)) return c;
+        return null;
+    }
+
+    private static DyeColor nearestExact(int r, int g, int b) {
+        DyeColor best = DYES[0];
+        int bestD = Integer.MAX_VALUE;
+        for (DyeColor dye : DYES) {
+            int c = DYE_RGB[dye.getId()];
+            int dr = r - ((c >> 16) & 0xFF), dg = g - ((c >> 8) & 0xFF), db = b - (c & 0xFF);
+            int d = dr * dr + dg * dg + db * db;
+            if (d < bestD) { bestD = d; best = dye; }
+        }
+        return best;
+    }
+
+    private static int paletteRgb(DyeColor dye) {
+        return switch (dye) {
+            case WHITE      -> 0xF0F0F0; // 240 240 240
+            case ORANGE     -> 0xEB8844; // 235 136  68
+            case MAGENTA    -> 0xC04EC4; // 192  78 196
+            case LIGHT_BLUE -> 0x4A98D4; //  74 152 212
+            case YELLOW     -> 0xF7E940; // 247 233  64
+            case LIME       -> 0x80C71F; // 128 199  31
+            case PINK       -> 0xED8DAC; // 237 141 172
+            case GRAY       -> 0x3E4447; //  62  68  71
+            case LIGHT_GRAY -> 0x959CA1; // 149 156 161
+            case CYAN       -> 0x169C9C; //  22 156 156
+            case PURPLE     -> 0x7A2AAE; // 122  42 174
+            case BLUE       -> 0x35399D; //  53  57 157
+            case BROWN      -> 0x643B21; // 100  59  33
+            case GREEN      -> 0x576D13; //  87 109  19
+            case RED        -> 0xA02722; // 160  39  34
+            case BLACK      -> 0x15151A; //  21  21  26
+        };
+    }
+}
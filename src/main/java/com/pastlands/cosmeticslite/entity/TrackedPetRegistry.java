@@ -0,0 +1,129 @@
+package com.pastlands.cosmeticslite.entity;
+
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level index of loaded CosmeticsLite pets (server side): {@link CosmeticPet} classes and
+ * vanilla entities carrying the {@code coslite} owner tag.
+ *
+ * Orphan sweeps and purges walk this instead of {@code level.getAllEntities()}, so their cost
+ * scales with the number of cosmetic pets rather than with every loaded entity. Fed by
+ * {@link PetManager} from level join/leave (which also fire for entities loaded and unloaded with
+ * their chunks), owner tagging and level unload.
+ *
+ * The periodic sweep is time-sliced: {@link #beginSweep} snapshots every tracked pet and
+ * {@link #drainSweep} works through the snapshot under a per-tick budget. Server thread only.
+ */
+public final class TrackedPetRegistry {
+
+    private TrackedPetRegistry() {}
+
+    private static final Map<ResourceKey<Level>, Int2ObjectOpenHashMap<Entity>> BY_LEVEL = new HashMap<>();
+
+    /** Pending entries of the running sweep (empty when idle). */
+    private static final ArrayDeque<Entity> SWEEP = new ArrayDeque<>();
+
+    private static final CosmeticsMetrics.Timer SWEEP_TIME = CosmeticsMetrics.timer("server.pets.sweep");
+    private static final CosmeticsMetrics.Counter SWEEPS = CosmeticsMetrics.counter("server.pets.sweeps");
+    private static final CosmeticsMetrics.Counter SWEPT = CosmeticsMetrics.counter("server.pets.swept");
+
+    static {
+        CosmeticsMetrics.gauge("server.pets.sweep_pending", SWEEP::size);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Feed
+    // --------------------------------------------------------------------------------------------
+
+    static void track(Entity e) {
+        if (e == null || e.level().isClientSide()) return;
+        BY_LEVEL.computeIfAbsent(e.level().dimension(), k -> new Int2ObjectOpenHashMap<>()).put(e.getId(), e);
+    }
+
+    static void untrack(Entity e) {
+        if (e == null) return;
+        Int2ObjectOpenHashMap<Entity> pets = BY_LEVEL.get(e.level().dimension());
+        if (pets != null && pets.get(e.getId()) == e) pets.remove(e.getId());
+    }
+
+    static void clearLevel(ResourceKey<Level> dimension) {
+        BY_LEVEL.remove(dimension);
+    }
+
+    static void clear() {
+        BY_LEVEL.clear();
+        SWEEP.clear();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Queries
+    // --------------------------------------------------------------------------------------------
+
+    /** Copy of the pets tracked in one level (safe to discard while iterating). */
+    static List<Entity> snapshot(ResourceKey<Level> dimension) {
+        Int2ObjectOpenHashMap<Entity> pets = BY_LEVEL.get(dimension);
+        return pets == null ? List.of() : new ArrayList<>(pets.values());
+    }
+
+    public static int size() {
+        int n = 0;
+        for (Int2ObjectOpenHashMap<Entity> pets : BY_LEVEL.values()) n += pets.size();
+        return n;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Time-sliced sweep
+    // --------------------------------------------------------------------------------------------
+
+    static boolean sweeping() {
+        return !SWEEP.isEmpty();
+    }
+
+    /** Queue every tracked pet for a sweep; no-op while one is still running. */
+    static void beginSweep() {
+        if (!SWEEP.isEmpty()) return;
+        for (Int2ObjectOpenHashMap<Entity> pets : BY_LEVEL.values()) SWEEP.addAll(pets.values());
+        SWEEPS.increment();
+    }
+
+    /**
+     * Visit queued pets until the queue is empty or {@code budgetNanos} is spent (at least one pet
+     * always runs). Removed entities are dropped without a visit.
+     *
+     * @return number of pets for which {@code visit} returned true
+     */
+    static int drainSweep(long budgetNanos, Predicate<Entity> visit) {
+        if (SWEEP.isEmpty()) return 0;
+        long start = System.nanoTime();
+        int hits = 0;
+        int visited = 0;
+        while (!SWEEP.isEmpty()) {
+            if (visited > 0 && System.nanoTime() - start > budgetNanos) break;
+            Entity e = SWEEP.poll();
+            if (e.isRemoved()) continue;
+            visited++;
+            if (visit.test(e)) hits++;
+        }
+        SWEEP_TIME.recordSince(start);
+        SWEPT.add(visited);
+        return hits;
+    }
+
+    /** Report line for {@code /cosmetics perf pets}. */
+    public static String report() {
+        return String.format("Tracked pets: %d in %d level(s); %d sweep(s), %d pet(s) swept%s",
+                size(), BY_LEVEL.size(), SWEEPS.get(), SWEPT.get(),
+                SWEEP.isEmpty() ? "" : ", sweep running (" + SWEEP.size() + " left)");
+    }
+}
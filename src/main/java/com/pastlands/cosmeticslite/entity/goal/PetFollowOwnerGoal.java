@@ -32,10 +32,22 @@ public class PetFollowOwnerGoal extends Goal {
     private static final double STOP_DIST = 4.0;        // Stop moving when within this
     private static final double TELEPORT_DIST = 48.0;   // Teleport when beyond this
     private static final double SPEED = 1.2;            // Movement speed
+
+    // Squared thresholds: goal checks run every selector tick, so no sqrt
+    private static final double START_DIST_SQ = START_DIST * START_DIST;
+    private static final double STOP_DIST_SQ = STOP_DIST * STOP_DIST;
+    private static final double TELEPORT_DIST_SQ = TELEPORT_DIST * TELEPORT_DIST;
+
+    /** Ticks between owner lookups while the owner is offline or elsewhere. */
+    private static final int OWNER_RETRY_TICKS = 20;
     
     private final Mob mob;
     private final Level level;
     private Player owner;
+    /** Resolved owner, kept until it is removed or leaves this level. */
+    @Nullable
+    private Player cachedOwner;
+    private int nextOwnerLookupTick = 0;
     private int pathStuckTicks = 0;
     private static final int MAX_STUCK_TICKS = 40; // ~2 seconds
     
@@ -49,35 +61,25 @@ public class PetFollowOwnerGoal extends Goal {
     public boolean canUse() {
         if (level.isClientSide) return false;
         
-        owner = getOwnerFromNBT();
-        if (owner == null || owner.isRemoved()) {
+        // Owner is resolved only when missing; same-level check is part of resolveOwner
+        owner = resolveOwner();
+        if (owner == null) {
             return false;
         }
         
-        // Only follow if owner is in same dimension
-        if (owner.level() != level) {
-            return false;
-        }
-        
-        double distance = mob.distanceTo(owner);
-        return distance > START_DIST;
+        return mob.distanceToSqr(owner) > START_DIST_SQ;
     }
     
     @Override
     public boolean canContinueToUse() {
         if (level.isClientSide) return false;
         
-        owner = getOwnerFromNBT();
-        if (owner == null || owner.isRemoved()) {
-            return false;
-        }
-        
-        if (owner.level() != level) {
+        owner = resolveOwner();
+        if (owner == null) {
             return false;
         }
         
-        double distance = mob.distanceTo(owner);
-        return distance > STOP_DIST;
+        return mob.distanceToSqr(owner) > STOP_DIST_SQ;
     }
     
     @Override
@@ -101,31 +103,31 @@ public class PetFollowOwnerGoal extends Goal {
         // Look at owner
         mob.getLookControl().setLookAt(owner, 10.0F, (float) mob.getMaxHeadXRot());
         
-        double distance = mob.distanceTo(owner);
+        double distSq = mob.distanceToSqr(owner);
         
         // If too far, teleport
-        if (distance > TELEPORT_DIST) {
+        if (distSq > TELEPORT_DIST_SQ) {
             teleportNearOwner();
             pathStuckTicks = 0;
             return;
         }
         
         // If close enough, stop moving (hover/idle)
-        if (distance <= STOP_DIST) {
+        if (distSq <= STOP_DIST_SQ) {
             mob.getNavigation().stop();
             pathStuckTicks = 0;
             return;
         }
         
         // Try to navigate toward owner
-        if (distance > START_DIST) {
+        if (distSq > START_DIST_SQ) {
             mob.getNavigation().moveTo(owner, SPEED);
             
             // Check if navigation is stuck
             if (!mob.getNavigation().isDone() && mob.getNavigation().getPath() != null) {
                 // Navigation is active, reset stuck counter
                 pathStuckTicks = 0;
-            } else if (distance > START_DIST) {
+            } else {
                 // Navigation is done but we're still far - might be stuck
                 pathStuckTicks++;
                 if (pathStuckTicks >= MAX_STUCK_TICKS) {
@@ -165,6 +167,28 @@ public class PetFollowOwnerGoal extends Goal {
         return level.isEmptyBlock(bp) && level.isEmptyBlock(bp.above());
     }
     
+    /**
+     * Cached owner if still valid (present and in this level); otherwise re-read from NBT, at most
+     * once per {@link #OWNER_RETRY_TICKS} while the owner stays unavailable.
+     */
+    @Nullable
+    private Player resolveOwner() {
+        Player cached = cachedOwner;
+        if (cached != null) {
+            if (!cached.isRemoved() && cached.level() == level) return cached;
+            cachedOwner = null; // removed (logout/respawn) or changed dimension: look it up again
+        }
+        if (mob.tickCount < nextOwnerLookupTick) return null;
+
+        Player found = getOwnerFromNBT();
+        if (found != null && !found.isRemoved() && found.level() == level) {
+            cachedOwner = found;
+            return found;
+        }
+        nextOwnerLookupTick = mob.tickCount + OWNER_RETRY_TICKS;
+        return null;
+    }
+    
     @Nullable
     private Player getOwnerFromNBT() {
         CompoundTag root = mob.getPersistentData().getCompound(ENBT_ROOT);
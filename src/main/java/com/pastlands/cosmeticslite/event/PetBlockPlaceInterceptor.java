@@ -1,7 +1,7 @@
 package com.pastlands.cosmeticslite.event;
 
 import com.pastlands.cosmeticslite.CosmeticsLite;
-import net.minecraft.nbt.CompoundTag;
+import com.pastlands.cosmeticslite.entity.PetManager;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.animal.SnowGolem;
 import net.minecraft.world.level.block.Blocks;
@@ -20,9 +20,6 @@ import net.minecraftforge.fml.common.Mod;
 @Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class PetBlockPlaceInterceptor {
 
-    private static final String ENBT_ROOT = "coslite";
-    private static final String ENBT_OWNER = "owner";
-
     /**
      * Intercept block placement events and cancel snow placement from cosmetic Snow Golems.
      * 
@@ -44,8 +41,8 @@ public class PetBlockPlaceInterceptor {
             return;
         }
 
-        // Check if this is a cosmetic pet using the same pattern as PetManager
-        if (!isCosmeticPet(entity)) {
+        // Check if this is a cosmetic pet (marker type or indexed tagged pet)
+        if (!PetManager.isCosmeticPet(entity)) {
             return;
         }
 
@@ -57,24 +54,5 @@ public class PetBlockPlaceInterceptor {
             event.setCanceled(true);
         }
     }
-
-    /**
-     * Check if an entity is a cosmetic pet using the same logic as PetManager.
-     * This checks for the owner tag in persistent NBT.
-     */
-    private static boolean isCosmeticPet(Entity entity) {
-        if (entity == null) {
-            return false;
-        }
-
-        // Check for owner tag in persistent NBT (same pattern as PetManager uses)
-        CompoundTag tag = entity.getPersistentData().getCompound(ENBT_ROOT);
-        if (tag.hasUUID(ENBT_OWNER)) {
-            return true;
-        }
-
-        // Also check class name pattern (fallback - matches PetManager.isCosmeticPet logic)
-        return entity.getClass().getSimpleName().startsWith("CosmeticPet");
-    }
 }
 
@@ -1,6 +1,7 @@
 package com.pastlands.cosmeticslite.event;
 
 import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.entity.PetManager;
 import com.mojang.logging.LogUtils;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
@@ -56,7 +57,7 @@ public class PetMobGriefingInterceptor {
         }
 
         // Check if this is a cosmetic pet
-        if (!isCosmeticPet(entity)) {
+        if (!PetManager.isCosmeticPet(entity)) {
             return;
         }
 
@@ -85,24 +86,5 @@ public class PetMobGriefingInterceptor {
             }
         }
     }
-
-    /**
-     * Check if an entity is a cosmetic pet using the same logic as PetManager.
-     * This checks for the owner tag in persistent NBT.
-     */
-    private static boolean isCosmeticPet(Entity entity) {
-        if (entity == null) {
-            return false;
-        }
-
-        // Check for owner tag in persistent NBT (same pattern as PetManager uses)
-        CompoundTag tag = entity.getPersistentData().getCompound(ENBT_ROOT);
-        if (tag.hasUUID(ENBT_OWNER)) {
-            return true;
-        }
-
-        // Also check class name pattern (fallback - matches PetManager.isCosmeticPet logic)
-        return entity.getClass().getSimpleName().startsWith("CosmeticPet");
-    }
 }
 
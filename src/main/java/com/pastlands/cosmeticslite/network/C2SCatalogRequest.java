@@ -0,0 +1,39 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: send me the catalog entries of one slot ({@code null} = all slots).
+ * Answered with {@link S2CCatalogSlice}.
+ */
+public final class C2SCatalogRequest {
+    @Nullable
+    private final CosmeticParticleEntry.Slot slot;
+
+    public C2SCatalogRequest(@Nullable CosmeticParticleEntry.Slot slot) {
+        this.slot = slot;
+    }
+
+    public static void encode(C2SCatalogRequest msg, FriendlyByteBuf buf) {
+        buf.writeBoolean(msg.slot != null);
+        if (msg.slot != null) buf.writeEnum(msg.slot);
+    }
+
+    public static C2SCatalogRequest decode(FriendlyByteBuf buf) {
+        return new C2SCatalogRequest(buf.readBoolean() ? buf.readEnum(CosmeticParticleEntry.Slot.class) : null);
+    }
+
+    public static void handle(C2SCatalogRequest msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer sp = ctx.get().getSender();
+            if (sp != null) CatalogSync.sendSlice(sp, msg.slot);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
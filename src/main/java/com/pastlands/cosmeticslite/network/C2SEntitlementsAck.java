@@ -0,0 +1,50 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: "I now hold entitlements epoch/version" (after a snapshot or delta), or, with
+ * {@code resync}, "your delta didn't fit; send me a snapshot".
+ *
+ * <p>Payload: long epoch, varlong version, bool resync.</p>
+ */
+public final class C2SEntitlementsAck {
+    private final long epoch;
+    private final long version;
+    private final boolean resync;
+
+    public C2SEntitlementsAck(long epoch, long version, boolean resync) {
+        this.epoch = epoch;
+        this.version = version;
+        this.resync = resync;
+    }
+
+    /** Client: acknowledge (no-op while disconnected). */
+    public static void send(long epoch, long version, boolean resync) {
+        if (net.minecraft.client.Minecraft.getInstance().getConnection() == null) return;
+        CosmeticsLite.NETWORK.sendToServer(new C2SEntitlementsAck(epoch, version, resync));
+    }
+
+    public static void encode(C2SEntitlementsAck msg, FriendlyByteBuf buf) {
+        buf.writeLong(msg.epoch);
+        buf.writeVarLong(msg.version);
+        buf.writeBoolean(msg.resync);
+    }
+
+    public static C2SEntitlementsAck decode(FriendlyByteBuf buf) {
+        return new C2SEntitlementsAck(buf.readLong(), buf.readVarLong(), buf.readBoolean());
+    }
+
+    public static void handle(C2SEntitlementsAck msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer sp = ctx.get().getSender();
+            if (sp != null) EntitlementSync.onAck(sp, msg.epoch, msg.version, msg.resync);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,119 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: "I joined; these are the login section hashes I still hold for you."
+ *
+ * <p>Sent once per connection when the client finishes logging in. The server answers with a
+ * {@link S2CLoginBundle} that leaves out every cacheable section whose hash matches.</p>
+ *
+ * <p>A client that never says hello (no mod-side hook ran, packet lost) still gets its state:
+ * {@link #awaitHello} arms a timeout at login, and after {@link #HELLO_TIMEOUT_TICKS} the server
+ * sends the full bundle as if the client held nothing.</p>
+ *
+ * <p>Payload: byte count, count x { byte section, long hash }.</p>
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class C2SLoginSyncHello {
+    /** Ticks after login to wait for a hello before sending the full bundle anyway. */
+    static final int HELLO_TIMEOUT_TICKS = 100;
+
+    /** Connections already answered; a repeated hello is ignored. */
+    private static final Set<UUID> ANSWERED = ConcurrentHashMap.newKeySet();
+    /** Server tick of each login still waiting for its hello. */
+    private static final Map<UUID, Long> AWAITING = new ConcurrentHashMap<>();
+
+    private final Map<S2CLoginBundle.Section, Long> held;
+
+    public C2SLoginSyncHello(Map<S2CLoginBundle.Section, Long> held) {
+        this.held = held;
+    }
+
+    /** Client: offer what we hold for the server we just joined. */
+    public static void sendFromClient() {
+        String key = LoginSyncClientCache.currentServerKey();
+        CosmeticsLite.NETWORK.sendToServer(new C2SLoginSyncHello(LoginSyncClientCache.heldFor(key)));
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(C2SLoginSyncHello msg, FriendlyByteBuf buf) {
+        buf.writeByte(msg.held.size());
+        msg.held.forEach((section, hash) -> {
+            buf.writeByte(section.ordinal());
+            buf.writeLong(hash);
+        });
+    }
+
+    public static C2SLoginSyncHello decode(FriendlyByteBuf buf) {
+        int n = buf.readUnsignedByte();
+        Map<S2CLoginBundle.Section, Long> held = new EnumMap<>(S2CLoginBundle.Section.class);
+        for (int i = 0; i < n; i++) {
+            S2CLoginBundle.Section section = S2CLoginBundle.Section.byOrdinal(buf.readUnsignedByte());
+            long hash = buf.readLong();
+            if (section != null) held.put(section, hash);
+        }
+        return new C2SLoginSyncHello(held);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler (server)
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(C2SLoginSyncHello msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer sp = ctx.get().getSender();
+            if (sp == null || !ANSWERED.add(sp.getUUID())) return;
+            AWAITING.remove(sp.getUUID());
+            S2CLoginBundle.send(sp, msg.held);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+
+    /** Server, at login: start the hello timeout for this connection. */
+    public static void awaitHello(ServerPlayer sp) {
+        if (ANSWERED.contains(sp.getUUID())) return;
+        AWAITING.put(sp.getUUID(), (long) sp.server.getTickCount());
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || AWAITING.isEmpty()) return;
+        MinecraftServer server = event.getServer();
+        long tick = server.getTickCount();
+        for (Iterator<Map.Entry<UUID, Long>> it = AWAITING.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<UUID, Long> e = it.next();
+            if (tick - e.getValue() < HELLO_TIMEOUT_TICKS) continue;
+            it.remove();
+            ServerPlayer sp = server.getPlayerList().getPlayer(e.getKey());
+            if (sp == null || !ANSWERED.add(e.getKey())) continue;
+            CosmeticsLite.LOGGER.debug("[CosLite] No login hello from {} after {} ticks; sending full bundle",
+                    sp.getGameProfile().getName(), HELLO_TIMEOUT_TICKS);
+            S2CLoginBundle.send(sp, Map.of());
+        }
+    }
+
+    /** Connection closed: the next login may say hello again. */
+    public static void forget(UUID playerId) {
+        ANSWERED.remove(playerId);
+        AWAITING.remove(playerId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
+import com.pastlands.cosmeticslite.particle.config.ParticleDefinition;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: send me the bodies of these particle definitions (missing from, or stale in,
+ * my disk cache). Answered with {@link S2CParticleDefinitionBodies}.
+ */
+public final class C2SParticleDefinitionsRequest {
+    /** More than any sane lab holds; bounds what one request can make the server encode. */
+    private static final int MAX_IDS = 4096;
+
+    private final List<ResourceLocation> ids;
+
+    public C2SParticleDefinitionsRequest(List<ResourceLocation> ids) {
+        this.ids = ids;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(C2SParticleDefinitionsRequest msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.ids.size());
+        for (ResourceLocation id : msg.ids) buf.writeResourceLocation(id);
+    }
+
+    public static C2SParticleDefinitionsRequest decode(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        if (n < 0 || n > MAX_IDS) throw new IllegalArgumentException("Too many definition ids: " + n);
+        List<ResourceLocation> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) ids.add(buf.readResourceLocation());
+        return new C2SParticleDefinitionsRequest(ids);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler (server)
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(C2SParticleDefinitionsRequest msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer sp = ctx.get().getSender();
+            if (sp == null) return;
+            Map<ResourceLocation, byte[]> bodies = new LinkedHashMap<>();
+            for (ResourceLocation id : msg.ids) {
+                ParticleDefinition def = CosmeticParticleRegistry.get(id);
+                if (def != null) bodies.put(id, ParticleDefinitionManifest.encodeBody(def));
+            }
+            ChunkedTransfer.send(sp, new S2CParticleDefinitionBodies(bodies));
+            if (CosmeticsLite.DEBUG_SYNC) {
+                CosmeticsLite.LOGGER.debug("[CosLite] {} requested {} definition(s), sent {}",
+                        sp.getGameProfile().getName(), msg.ids.size(), bodies.size());
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
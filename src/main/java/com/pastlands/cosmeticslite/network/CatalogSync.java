@@ -0,0 +1,90 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.particle.CosmeticParticleCatalog;
+import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.PacketDistributor;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server side of lazy particle catalog delivery.
+ *
+ * <p>Login (and every catalog change) only sends a {@link S2CCatalogStamp}. Clients fetch
+ * entries per slot with {@link C2SCatalogRequest} when a screen needs them, so players who never
+ * open the menu cost one 9-byte stamp.</p>
+ *
+ * <p>The stamp is a hash of the entries' JSON form (literal ids), stable across restarts, so a
+ * client that kept the catalog from an earlier session can reuse it. Server thread only.</p>
+ *
+ * <p>Requests are limited per player and slot: a repeat of a slice already answered for the
+ * current stamp is ignored for {@link #REQUEST_COOLDOWN_TICKS}. A client only re-asks after a new
+ * stamp (which is a different key), so the limit never withholds an answer it is waiting for.</p>
+ */
+public final class CatalogSync {
+
+    private CatalogSync() {}
+
+    /** Minimum ticks between two answers to the same slot request from one player. */
+    static final int REQUEST_COOLDOWN_TICKS = 100;
+    /** Key for a request of every slot. */
+    private static final String ALL_SLOTS = "*";
+
+    private static long stamp = 0L;
+    private static boolean stampValid = false;
+
+    private record Answered(long stamp, long tick) {}
+
+    /** Player -> slot key -> last slice sent. */
+    private static final Map<UUID, Map<String, Answered>> ANSWERED = new HashMap<>();
+
+    /** Current catalog stamp, computed once per catalog change. */
+    public static long stamp() {
+        if (!stampValid) {
+            StringBuilder sb = new StringBuilder();
+            for (CosmeticParticleEntry entry : PublishCosmeticPacket.getCatalog().all()) {
+                sb.append(CosmeticParticleCatalog.toJson(entry)).append('\n');
+            }
+            stamp = S2CLoginBundle.hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+            stampValid = true;
+        }
+        return stamp;
+    }
+
+    /** Catalog changed (publish, delete, server start): push the new stamp to everyone. */
+    public static void onCatalogChanged() {
+        stampValid = false;
+        CosmeticsLite.NETWORK.send(PacketDistributor.ALL.noArg(), new S2CCatalogStamp(stamp()));
+    }
+
+    /** Answer a slice request; {@code slot == null} means every slot. */
+    static void sendSlice(ServerPlayer sp, @Nullable CosmeticParticleEntry.Slot slot) {
+        long now = sp.server.getTickCount();
+        Map<String, Answered> answered = ANSWERED.computeIfAbsent(sp.getUUID(), k -> new HashMap<>());
+        String key = slot == null ? ALL_SLOTS : slot.name();
+        Answered last = answered.get(key);
+        if (last != null && last.stamp() == stamp() && now - last.tick() < REQUEST_COOLDOWN_TICKS) {
+            CosmeticsLite.LOGGER.debug("[CosLite] Ignoring repeated catalog request ({}) from {}",
+                    key, sp.getGameProfile().getName());
+            return;
+        }
+        answered.put(key, new Answered(stamp(), now));
+
+        List<CosmeticParticleEntry> entries = new ArrayList<>();
+        for (CosmeticParticleEntry entry : PublishCosmeticPacket.getCatalog().all()) {
+            if (slot == null || entry.slot() == slot) entries.add(entry);
+        }
+        ChunkedTransfer.send(sp, new S2CCatalogSlice(stamp(), slot, entries));
+    }
+
+    public static void forget(UUID playerId) {
+        ANSWERED.remove(playerId);
+    }
+}
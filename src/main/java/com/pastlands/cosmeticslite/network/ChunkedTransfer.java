@@ -0,0 +1,352 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Chunked, budgeted delivery for large server → client payloads.
+ *
+ * <p>A payload is encoded once with its packet's own encoder, split into {@link #CHUNK_BYTES}
+ * pieces and queued per player as {@link S2CPayloadChunk}s. Each tick drains at most
+ * {@link #PLAYER_BYTES_PER_TICK} per player and {@link #GLOBAL_BYTES_PER_TICK} overall; whatever
+ * fits in the current tick's budget goes out immediately, so small payloads are not delayed.
+ * The client reassembles by transfer id + sequence number and then runs the packet's normal
+ * decoder and handler.</p>
+ *
+ * <p>All chunkable payloads for one player share one queue, so they arrive in the order they
+ * were sent. Any packet type can be carried once it is listed in the codec table below. Small
+ * state packets that supersede part of a queued snapshot (equip, entitlements) go through
+ * {@link #sendInOrder}, which holds them behind that player's pending chunks.</p>
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ChunkedTransfer {
+
+    private ChunkedTransfer() {}
+
+    /** Body bytes per chunk; well under the vanilla custom payload limit. */
+    static final int CHUNK_BYTES = 16 * 1024;
+    private static final int PLAYER_BYTES_PER_TICK = 64 * 1024;
+    private static final int GLOBAL_BYTES_PER_TICK = 512 * 1024;
+    /** Reassembly cap (64 MiB); anything larger is treated as corrupt. */
+    static final int MAX_CHUNKS = 4096;
+    /** Most chunk bytes one player may have queued; a payload that would go past it is dropped. */
+    private static final int MAX_QUEUED_BYTES_PER_PLAYER = 16 * 1024 * 1024;
+
+    // --------------------------------------------------------------------------------------------
+    // Codec table (both sides; ids are list positions, so append only)
+    // --------------------------------------------------------------------------------------------
+
+    private record Codec<T>(int id, Class<T> type,
+                            BiConsumer<T, FriendlyByteBuf> encoder,
+                            Function<FriendlyByteBuf, T> decoder,
+                            BiConsumer<T, Supplier<NetworkEvent.Context>> handler) {
+
+        @SuppressWarnings("unchecked")
+        void encodeUnchecked(Object msg, FriendlyByteBuf buf) {
+            encoder.accept((T) msg, buf);
+        }
+
+        void decodeAndHandle(FriendlyByteBuf buf, Supplier<NetworkEvent.Context> ctx) {
+            handler.accept(decoder.apply(buf), ctx);
+        }
+    }
+
+    private static final List<Codec<?>> CODECS = new ArrayList<>();
+    private static final Map<Class<?>, Codec<?>> BY_TYPE = new HashMap<>();
+
+    static {
+        codec(ParticleDefinitionsSyncPacket.class, ParticleDefinitionsSyncPacket::encode,
+                ParticleDefinitionsSyncPacket::decode, ParticleDefinitionsSyncPacket::handle);
+        codec(CosmeticParticlesSyncPacket.class, CosmeticParticlesSyncPacket::encode,
+                CosmeticParticlesSyncPacket::decode, CosmeticParticlesSyncPacket::handle);
+        codec(S2CParticleDefinitionBodies.class, S2CParticleDefinitionBodies::encode,
+                S2CParticleDefinitionBodies::decode, S2CParticleDefinitionBodies::handle);
+        codec(S2CLoginBundle.class, S2CLoginBundle::encode,
+                S2CLoginBundle::decode, S2CLoginBundle::handle);
+        codec(S2CParticleDefinitionDelta.class, S2CParticleDefinitionDelta::encode,
+                S2CParticleDefinitionDelta::decode, S2CParticleDefinitionDelta::handle);
+        codec(S2CCatalogSlice.class, S2CCatalogSlice::encode,
+                S2CCatalogSlice::decode, S2CCatalogSlice::handle);
+    }
+
+    private static <T> void codec(Class<T> type, BiConsumer<T, FriendlyByteBuf> encoder,
+                                  Function<FriendlyByteBuf, T> decoder,
+                                  BiConsumer<T, Supplier<NetworkEvent.Context>> handler) {
+        // Same telemetry wrappers as CosmeticsLite.register, so the carried packet class is counted
+        // (bytes and codec time) on top of the S2CPayloadChunk frames it travels in
+        Codec<T> c = new Codec<>(CODECS.size(), type,
+                NetTelemetry.encoder(type, encoder), NetTelemetry.decoder(type, decoder), handler);
+        CODECS.add(c);
+        BY_TYPE.put(type, c);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Server: queue + drain (server thread)
+    // --------------------------------------------------------------------------------------------
+
+    private static final AtomicInteger NEXT_TRANSFER = new AtomicInteger();
+
+    private static final class Outbox {
+        /** {@link S2CPayloadChunk}s, plus direct packets held by {@link #sendInOrder}. */
+        final ArrayDeque<Object> items = new ArrayDeque<>();
+        int budget = PLAYER_BYTES_PER_TICK;
+        /** Sum of the queued chunks' sizes. */
+        int queuedBytes;
+    }
+
+    private static final Map<UUID, Outbox> OUTBOX = new LinkedHashMap<>();
+    private static int globalBudget = GLOBAL_BYTES_PER_TICK;
+    /** Where the next tick's drain starts, so players late in the map are not starved. */
+    private static int rotation;
+
+    private static final CosmeticsMetrics.Timer DRAIN_TIME = CosmeticsMetrics.timer("server.net.chunked_drain");
+
+    /** Send {@code msg} (a type from the codec table) to one player. */
+    public static void send(ServerPlayer sp, Object msg) {
+        if (sp == null || msg == null) return;
+        Codec<?> codec = codecFor(msg);
+        enqueue(sp, codec.id(), encode(codec, msg, IdPalette.isPrimed(sp)));
+    }
+
+    /** Send {@code msg} to every player; encoded once. */
+    public static void sendToAll(Object msg) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null || msg == null) return;
+        send(server.getPlayerList().getPlayers(), msg);
+    }
+
+    /** Send {@code msg} to each of {@code players}; encoded once and the bytes shared. */
+    public static void send(Collection<ServerPlayer> players, Object msg) {
+        if (players.isEmpty() || msg == null) return;
+        Codec<?> codec = codecFor(msg);
+        boolean primed = true;
+        for (ServerPlayer sp : players) primed &= IdPalette.isPrimed(sp);
+        byte[] bytes = encode(codec, msg, primed);
+        for (ServerPlayer sp : players) {
+            enqueue(sp, codec.id(), bytes);
+        }
+    }
+
+    /**
+     * Send a direct (non-chunked) packet to one player, after any chunked payloads still queued for
+     * them, so a state update cannot overtake an older snapshot of the same state (e.g. the login
+     * bundle). With nothing queued it goes out immediately.
+     */
+    public static void sendInOrder(ServerPlayer sp, Object msg) {
+        if (sp == null || msg == null) return;
+        Outbox box = OUTBOX.get(sp.getUUID());
+        if (box == null || box.items.isEmpty()) {
+            NetTelemetry.sendTo(sp, msg);
+        } else {
+            box.items.add(msg);
+        }
+    }
+
+    /** True while chunked payloads are queued for the player. */
+    public static boolean hasPending(ServerPlayer sp) {
+        Outbox box = sp == null ? null : OUTBOX.get(sp.getUUID());
+        return box != null && !box.items.isEmpty();
+    }
+
+    /** Bytes still queued for a player (for diagnostics). */
+    public static int pendingBytes(UUID playerId) {
+        Outbox box = OUTBOX.get(playerId);
+        return box == null ? 0 : box.queuedBytes;
+    }
+
+    private static Codec<?> codecFor(Object msg) {
+        Codec<?> codec = BY_TYPE.get(msg.getClass());
+        if (codec == null) throw new IllegalArgumentException("Not a chunkable payload: " + msg.getClass().getName());
+        return codec;
+    }
+
+    private static byte[] encode(Codec<?> codec, Object msg, boolean primed) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            IdPalette.encodeFor(primed, () -> codec.encodeUnchecked(msg, buf));
+            byte[] out = new byte[buf.readableBytes()];
+            buf.readBytes(out);
+            return out;
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static void enqueue(ServerPlayer sp, int codecId, byte[] bytes) {
+        int total = Math.max(1, (bytes.length + CHUNK_BYTES - 1) / CHUNK_BYTES);
+        if (total > MAX_CHUNKS) {
+            CosmeticsLite.LOGGER.error("[CosLite] Payload {} too large to send ({} bytes)", CODECS.get(codecId).type().getSimpleName(), bytes.length);
+            return;
+        }
+        Outbox box = OUTBOX.computeIfAbsent(sp.getUUID(), k -> new Outbox());
+        if (box.queuedBytes + bytes.length > MAX_QUEUED_BYTES_PER_PLAYER) {
+            CosmeticsLite.LOGGER.warn("[CosLite] Outbox for {} full ({} bytes queued); dropped {} ({} bytes)",
+                    sp.getGameProfile().getName(), box.queuedBytes, CODECS.get(codecId).type().getSimpleName(), bytes.length);
+            return;
+        }
+        int transferId = NEXT_TRANSFER.incrementAndGet();
+        box.queuedBytes += bytes.length;
+        for (int seq = 0; seq < total; seq++) {
+            int from = seq * CHUNK_BYTES;
+            int to = Math.min(bytes.length, from + CHUNK_BYTES);
+            box.items.add(new S2CPayloadChunk(transferId, codecId, seq, total, bytes, from, to - from));
+        }
+        drain(sp, box);
+    }
+
+    /**
+     * Send queued items while both budgets last (the chunk that crosses a budget still goes).
+     * Held direct packets are not charged; they are small and go as soon as they reach the head.
+     */
+    private static void drain(ServerPlayer sp, Outbox box) {
+        while (!box.items.isEmpty()) {
+            if (box.items.peek() instanceof S2CPayloadChunk chunk) {
+                if (box.budget <= 0 || globalBudget <= 0) return;
+                box.items.poll();
+                NetTelemetry.sendTo(sp, chunk);
+                box.queuedBytes -= chunk.size();
+                box.budget -= chunk.size();
+                globalBudget -= chunk.size();
+            } else {
+                NetTelemetry.sendTo(sp, box.items.poll());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        globalBudget = GLOBAL_BYTES_PER_TICK;
+        if (OUTBOX.isEmpty()) return;
+        long start = System.nanoTime();
+        drainAll(event.getServer());
+        DRAIN_TIME.recordSince(start);
+        // Budget used by this drain counts against the next tick's immediate sends
+    }
+
+    private static void drainAll(MinecraftServer server) {
+        List<UUID> order = new ArrayList<>(OUTBOX.keySet());
+        int start = Math.floorMod(rotation++, order.size());
+        for (int i = 0; i < order.size(); i++) {
+            UUID id = order.get((start + i) % order.size());
+            Outbox box = OUTBOX.get(id);
+            box.budget = PLAYER_BYTES_PER_TICK;
+            ServerPlayer sp = server.getPlayerList().getPlayer(id);
+            if (sp == null) {
+                OUTBOX.remove(id);
+                continue;
+            }
+            drain(sp, box);
+            if (box.items.isEmpty()) OUTBOX.remove(id);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        OUTBOX.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        OUTBOX.clear();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Client: reassembly (network thread, in arrival order)
+    // --------------------------------------------------------------------------------------------
+
+    private static final class Assembly {
+        final int codecId;
+        final int total;
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        int next = 0;
+
+        Assembly(int codecId, int total) {
+            this.codecId = codecId;
+            this.total = total;
+        }
+    }
+
+    private static final Map<Integer, Assembly> ASSEMBLING = new HashMap<>();
+
+    static void onChunk(S2CPayloadChunk chunk, Supplier<NetworkEvent.Context> ctx) {
+        FriendlyByteBuf complete = null;
+        int codecId;
+        synchronized (ASSEMBLING) {
+            Assembly a = ASSEMBLING.get(chunk.transferId());
+            if (a == null) {
+                if (chunk.seq() != 0 || chunk.total() <= 0 || chunk.total() > MAX_CHUNKS) {
+                    CosmeticsLite.LOGGER.warn("[CosLite] Dropping stray chunk {}/{} of transfer {}",
+                            chunk.seq(), chunk.total(), chunk.transferId());
+                    return;
+                }
+                a = new Assembly(chunk.codecId(), chunk.total());
+                ASSEMBLING.put(chunk.transferId(), a);
+            }
+            if (chunk.seq() != a.next || chunk.codecId() != a.codecId) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Transfer {} out of sequence (got {}, expected {}); dropped",
+                        chunk.transferId(), chunk.seq(), a.next);
+                ASSEMBLING.remove(chunk.transferId()).buf.release();
+                return;
+            }
+            a.buf.writeBytes(chunk.data(), chunk.offset(), chunk.size());
+            a.next++;
+            codecId = a.codecId;
+            if (a.next == a.total) {
+                ASSEMBLING.remove(chunk.transferId());
+                complete = a.buf;
+            }
+        }
+        if (complete == null) return;
+
+        Codec<?> codec = codecById(codecId);
+        try {
+            if (codec == null) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Unknown chunked payload type {}", codecId);
+                return;
+            }
+            // Decode here, in arrival order, then hand off to the packet's own handler
+            codec.decodeAndHandle(complete, ctx);
+        } finally {
+            complete.release();
+        }
+    }
+
+    /** Drop partial transfers (client logout). */
+    public static void clearClient() {
+        synchronized (ASSEMBLING) {
+            for (Assembly a : ASSEMBLING.values()) a.buf.release();
+            ASSEMBLING.clear();
+        }
+    }
+
+    @Nullable
+    private static Codec<?> codecById(int id) {
+        return (id >= 0 && id < CODECS.size()) ? CODECS.get(id) : null;
+    }
+}
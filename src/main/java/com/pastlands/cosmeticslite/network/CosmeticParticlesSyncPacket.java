@@ -7,6 +7,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.PacketDistributor;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -50,7 +51,7 @@ public final class CosmeticParticlesSyncPacket {
         return new CosmeticParticlesSyncPacket(entries);
     }
 
-    private static void encodeEntry(CosmeticParticleEntry entry, FriendlyByteBuf buf) {
+    static void encodeEntry(CosmeticParticleEntry entry, FriendlyByteBuf buf) {
         writeResourceLocation(buf, entry.id());
         writeResourceLocation(buf, entry.particleId());
         buf.writeUtf(entry.displayName().getString(), 256);
@@ -75,7 +76,7 @@ public final class CosmeticParticlesSyncPacket {
             buf.writeUtf(entry.source().name(), 16);
         }
 
-    private static CosmeticParticleEntry decodeEntry(FriendlyByteBuf buf) {
+    static CosmeticParticleEntry decodeEntry(FriendlyByteBuf buf) {
         try {
             ResourceLocation id = readResourceLocation(buf);
             ResourceLocation particleId = readResourceLocation(buf);
@@ -90,7 +91,7 @@ public final class CosmeticParticlesSyncPacket {
             if (buf.readBoolean()) {
                 ResourceLocation itemId = readResourceLocation(buf);
                 Integer tint = buf.readBoolean() ? buf.readInt() : null;
-                icon = new CosmeticParticleEntry.Icon(itemId, tint);
+                if (itemId != null) icon = new CosmeticParticleEntry.Icon(itemId, tint);
             }
             
             // Read source (default to CONFIG if missing for backward compatibility)
@@ -103,6 +104,11 @@ public final class CosmeticParticlesSyncPacket {
                 source = CosmeticParticleEntry.Source.CONFIG;
             }
             
+            // Fully read either way so the next entry stays aligned
+            if (id == null || particleId == null) {
+                CosmeticsLite.LOGGER.debug("[cosmeticslite] Skipping catalog entry with an unknown palette id");
+                return null;
+            }
             return new CosmeticParticleEntry(id, particleId, displayName, slot, rarity, price, icon, source);
         } catch (Exception e) {
             CosmeticsLite.LOGGER.warn("[cosmeticslite] Failed to decode CosmeticParticleEntry: {}", e.getMessage());
@@ -110,12 +116,15 @@ public final class CosmeticParticlesSyncPacket {
         }
     }
 
+    // Ids travel as session palette varints (string fallback for unknown ids)
     private static void writeResourceLocation(FriendlyByteBuf buf, ResourceLocation rl) {
-        buf.writeUtf(rl.toString(), 256);
+        IdPalette.write(buf, rl);
     }
 
+    /** @return the id, or null for an index this client does not hold (the entry is skipped) */
+    @Nullable
     private static ResourceLocation readResourceLocation(FriendlyByteBuf buf) {
-        return ResourceLocation.parse(buf.readUtf(256));
+        return IdPalette.read(buf);
     }
 
     // --------------------------------------------------------------------------------------------
@@ -124,24 +133,29 @@ public final class CosmeticParticlesSyncPacket {
 
     public static void handle(CosmeticParticlesSyncPacket msg, Supplier<NetworkEvent.Context> ctx) {
         ctx.get().enqueueWork(() -> {
-            // Store entries on client-side for Cosmetics Particle tab
-            com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog.replaceAll(msg.entries);
-            CosmeticsLite.LOGGER.info("[cosmeticslite] Synced {} cosmetic particle entry(ies) from server", msg.entries.size());
-            
-            // Notify Particle Lab screen if it's open
-            net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
-            mc.execute(() -> {
-                if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen screen) {
-                    screen.onCatalogSynced();
-                }
-            });
-            
-            // Step 3: Sanity check - verify all built-in cosmetics have legacy profiles
-            // Run this after catalog is synced (ParticleProfiles should be loaded by now)
-            checkBuiltinCosmeticProfiles();
+            apply(msg);
         });
         ctx.get().setPacketHandled(true);
     }
+
+    /** Client main thread: apply the catalog (also used by the login bundle). */
+    public static void apply(CosmeticParticlesSyncPacket msg) {
+        // Store entries on client-side for Cosmetics Particle tab
+        com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog.replaceAll(msg.entries);
+        CosmeticsLite.LOGGER.info("[cosmeticslite] Synced {} cosmetic particle entry(ies) from server", msg.entries.size());
+        
+        // Notify Particle Lab screen if it's open
+        net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
+        mc.execute(() -> {
+            if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen screen) {
+                screen.onCatalogSynced();
+            }
+        });
+        
+        // Step 3: Sanity check - verify all built-in cosmetics have legacy profiles
+        // Run this after catalog is synced (ParticleProfiles should be loaded by now)
+        checkBuiltinCosmeticProfiles();
+    }
     
     /**
      * Sanity check: verify all built-in cosmetic particle entries have legacy profiles.
@@ -0,0 +1,100 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.PlayerEntitlements;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server side of entitlement sync: deltas against the client's acknowledged version.
+ *
+ * <p>Clients acknowledge every snapshot and delta they apply ({@link C2SEntitlementsAck}). A sync
+ * sends the changes since that version when {@link PlayerEntitlements#changesSince} can still
+ * replay them, and a full {@link S2CEntitlementsSync} otherwise (no ack yet, other epoch, log
+ * overflow, or a resync request). Server thread only.</p>
+ *
+ * <p>Resync requests are rate limited per player: at most one full snapshot per
+ * {@link #RESYNC_COOLDOWN_TICKS}; a request inside the cooldown is answered when it ends.</p>
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class EntitlementSync {
+
+    private EntitlementSync() {}
+
+    private record Acked(long epoch, long version) {}
+
+    /** Minimum ticks between two resync snapshots for one player. */
+    static final int RESYNC_COOLDOWN_TICKS = 20;
+
+    private static final Map<UUID, Acked> ACKED = new ConcurrentHashMap<>();
+    /** Server tick of each player's last resync snapshot. */
+    private static final Map<UUID, Long> LAST_RESYNC = new ConcurrentHashMap<>();
+    /** Resync requests waiting for their cooldown to end. */
+    private static final Set<UUID> DEFERRED = ConcurrentHashMap.newKeySet();
+
+    /** Bring {@code sp}'s client up to date with the smallest payload available. */
+    public static void send(ServerPlayer sp) {
+        if (sp == null) return;
+        PlayerEntitlements.get(sp).ifPresent(cap -> {
+            Acked acked = ACKED.get(sp.getUUID());
+            List<PlayerEntitlements.Change> changes = acked == null ? null : cap.changesSince(acked.epoch(), acked.version());
+            if (changes == null) {
+                ChunkedTransfer.sendInOrder(sp, S2CEntitlementsSync.of(cap));
+            } else if (!changes.isEmpty()) {
+                ChunkedTransfer.sendInOrder(sp, S2CEntitlementsDelta.of(cap, acked.version(), changes));
+            }
+        });
+    }
+
+    static void onAck(ServerPlayer sp, long epoch, long version, boolean resync) {
+        if (resync) {
+            ACKED.remove(sp.getUUID());
+            CosmeticsLite.LOGGER.debug("[CosLite] Entitlement resync requested by {} (client v{})",
+                    sp.getGameProfile().getName(), version);
+            long tick = sp.server.getTickCount();
+            Long last = LAST_RESYNC.get(sp.getUUID());
+            if (last != null && tick - last < RESYNC_COOLDOWN_TICKS) {
+                DEFERRED.add(sp.getUUID());
+                return;
+            }
+            LAST_RESYNC.put(sp.getUUID(), tick);
+            send(sp);
+            return;
+        }
+        ACKED.merge(sp.getUUID(), new Acked(epoch, version),
+                (old, neu) -> (old.epoch() == neu.epoch() && old.version() > neu.version()) ? old : neu);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || DEFERRED.isEmpty()) return;
+        MinecraftServer server = event.getServer();
+        long tick = server.getTickCount();
+        for (Iterator<UUID> it = DEFERRED.iterator(); it.hasNext(); ) {
+            UUID id = it.next();
+            Long last = LAST_RESYNC.get(id);
+            if (last != null && tick - last < RESYNC_COOLDOWN_TICKS) continue;
+            it.remove();
+            ServerPlayer sp = server.getPlayerList().getPlayer(id);
+            if (sp == null) continue;
+            LAST_RESYNC.put(id, tick);
+            send(sp);
+        }
+    }
+
+    public static void forget(UUID uuid) {
+        ACKED.remove(uuid);
+        LAST_RESYNC.remove(uuid);
+        DEFERRED.remove(uuid);
+    }
+}
@@ -0,0 +1,245 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticDef;
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.CosmeticsRegistry;
+import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session id palette: cosmetic / particle ids travel as small varints instead of strings.
+ *
+ * Server side the palette is seeded from the registry snapshot at server start and is
+ * append-only for the server's lifetime. A connection receives the full table once, when its
+ * player first joins a level (before anyone can start tracking it); later additions are pushed
+ * to every primed connection before any packet can reference them.
+ *
+ * Wire form of an id: varint (index + 1), or 0 followed by the literal string for ids the
+ * palette doesn't hold. A missing entry costs bytes, never correctness.
+ *
+ * Only server -> client packets use the palette: encode reads the server table, decode reads
+ * the client mirror (both live in one JVM in singleplayer). Indices are only written inside
+ * {@link #encodeFor} with every recipient primed ({@link NetTelemetry} and {@link ChunkedTransfer}
+ * do this); any other encode, e.g. for a connection that has not joined a level yet, writes
+ * literals.
+ */
+public final class IdPalette {
+
+    private IdPalette() {}
+
+    private static final int MAX_ID_LEN = 256;
+
+    // --------------------------------------------------------------------------------------------
+    // Server state
+    // --------------------------------------------------------------------------------------------
+    private static final List<ResourceLocation> SERVER_IDS = new ArrayList<>();
+    private static final Map<ResourceLocation, Integer> SERVER_INDEX = new ConcurrentHashMap<>();
+    /** Connections that already hold the full table. */
+    private static final Set<UUID> PRIMED = ConcurrentHashMap.newKeySet();
+
+    /** Set while encoding for recipients that all hold the table (see {@link #encodeFor}). */
+    private static final ThreadLocal<Boolean> INDEXED = new ThreadLocal<>();
+
+    // --------------------------------------------------------------------------------------------
+    // Client mirror (written on the network thread, see S2CIdPalette#handle)
+    // --------------------------------------------------------------------------------------------
+    private static final List<ResourceLocation> CLIENT_IDS = new ArrayList<>();
+
+    // --------------------------------------------------------------------------------------------
+    // Codec helpers
+    // --------------------------------------------------------------------------------------------
+
+    public static void write(FriendlyByteBuf buf, ResourceLocation id) {
+        Integer idx = indexed() ? SERVER_INDEX.get(id) : null;
+        if (idx != null) {
+            buf.writeVarInt(idx + 1);
+        } else {
+            buf.writeVarInt(0);
+            buf.writeUtf(id.toString(), MAX_ID_LEN);
+        }
+    }
+
+    /** String form for payloads that keep ids as strings (equip maps, entitlements). */
+    public static void writeString(FriendlyByteBuf buf, String id) {
+        ResourceLocation rl = ResourceLocation.tryParse(id);
+        Integer idx = (rl == null || !indexed()) ? null : SERVER_INDEX.get(rl);
+        if (idx != null) {
+            buf.writeVarInt(idx + 1);
+        } else {
+            buf.writeVarInt(0);
+            buf.writeUtf(id, MAX_ID_LEN);
+        }
+    }
+
+    /** @return the id, or null when the literal is malformed or the index is unknown to this client */
+    @Nullable
+    public static ResourceLocation read(FriendlyByteBuf buf) {
+        int v = buf.readVarInt();
+        if (v == 0) return ResourceLocation.tryParse(buf.readUtf(MAX_ID_LEN));
+        return clientLookup(v - 1);
+    }
+
+    /** @return the id string, or null when the index is unknown to this client */
+    @Nullable
+    public static String readString(FriendlyByteBuf buf) {
+        int v = buf.readVarInt();
+        if (v == 0) return buf.readUtf(MAX_ID_LEN);
+        ResourceLocation rl = clientLookup(v - 1);
+        return (rl == null) ? null : rl.toString();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Server API (server thread)
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * Run {@code encode} with palette indices allowed only when {@code primed} (every recipient
+     * holds the table); ids are written as literals otherwise. Nests; the outer mode is restored.
+     */
+    public static void encodeFor(boolean primed, Runnable encode) {
+        Boolean outer = INDEXED.get();
+        INDEXED.set(primed);
+        try {
+            encode.run();
+        } finally {
+            if (outer == null) INDEXED.remove(); else INDEXED.set(outer);
+        }
+    }
+
+    private static boolean indexed() {
+        return Boolean.TRUE.equals(INDEXED.get());
+    }
+
+    /** True once the player's connection has been sent the full table. */
+    public static boolean isPrimed(@Nullable ServerPlayer sp) {
+        return sp != null && PRIMED.contains(sp.getUUID());
+    }
+
+    /** True when every online connection holds the table, so a broadcast may use indices. */
+    public static boolean allPrimed() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) return false;
+        if (PRIMED.size() < server.getPlayerCount()) return false;
+        for (ServerPlayer sp : server.getPlayerList().getPlayers()) {
+            if (!PRIMED.contains(sp.getUUID())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Append every id currently known to the registries (cosmetics, particle definitions,
+     * particle catalog). New entries are pushed to primed connections. Safe to call repeatedly.
+     */
+    public static void refreshFromRegistries() {
+        Set<ResourceLocation> ids = new LinkedHashSet<>();
+        for (CosmeticDef def : CosmeticsRegistry.all()) ids.add(def.id());
+        for (var def : CosmeticParticleRegistry.all()) ids.add(def.id());
+        for (CosmeticParticleEntry entry : PublishCosmeticPacket.getCatalog().all()) {
+            ids.add(entry.id());
+            ids.add(entry.particleId());
+            if (entry.icon() != null) ids.add(entry.icon().itemId());
+        }
+        extend(ids);
+    }
+
+    /** Append ids the palette doesn't hold yet and push the additions to primed connections. */
+    public static void extend(Iterable<ResourceLocation> ids) {
+        S2CIdPalette additions;
+        synchronized (SERVER_IDS) {
+            int start = SERVER_IDS.size();
+            for (ResourceLocation id : ids) {
+                if (id == null || SERVER_INDEX.containsKey(id)) continue;
+                SERVER_IDS.add(id);
+                SERVER_INDEX.put(id, SERVER_IDS.size() - 1);
+            }
+            if (SERVER_IDS.size() == start) return;
+            additions = new S2CIdPalette(start, new ArrayList<>(SERVER_IDS.subList(start, SERVER_IDS.size())));
+        }
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null || PRIMED.isEmpty()) return;
+        for (ServerPlayer sp : server.getPlayerList().getPlayers()) {
+            if (PRIMED.contains(sp.getUUID())) {
+                NetTelemetry.sendTo(sp, additions);
+            }
+        }
+    }
+
+    /** Send the full table to a connection once; later calls for the same player are no-ops. */
+    public static void prime(ServerPlayer sp) {
+        if (sp == null || !PRIMED.add(sp.getUUID())) return;
+        S2CIdPalette table;
+        synchronized (SERVER_IDS) {
+            table = new S2CIdPalette(0, new ArrayList<>(SERVER_IDS));
+        }
+        NetTelemetry.sendTo(sp, table);
+    }
+
+    /** Connection closed: the next login gets a fresh table. */
+    public static void forget(UUID playerId) {
+        PRIMED.remove(playerId);
+    }
+
+    /** Server stopped: drop the session palette. */
+    public static void resetServer() {
+        synchronized (SERVER_IDS) {
+            SERVER_IDS.clear();
+            SERVER_INDEX.clear();
+        }
+        PRIMED.clear();
+    }
+
+    public static int serverSize() {
+        synchronized (SERVER_IDS) {
+            return SERVER_IDS.size();
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Client API
+    // --------------------------------------------------------------------------------------------
+
+    /** Apply a table (start == 0 replaces) or an append-only addition. */
+    static void applyOnClient(int start, List<ResourceLocation> ids) {
+        synchronized (CLIENT_IDS) {
+            if (start == 0) {
+                CLIENT_IDS.clear();
+            } else if (start != CLIENT_IDS.size()) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Id palette out of step (have {}, update starts at {})",
+                        CLIENT_IDS.size(), start);
+                while (CLIENT_IDS.size() > start) CLIENT_IDS.remove(CLIENT_IDS.size() - 1);
+                while (CLIENT_IDS.size() < start) CLIENT_IDS.add(null);
+            }
+            CLIENT_IDS.addAll(ids);
+        }
+    }
+
+    public static void clearClient() {
+        synchronized (CLIENT_IDS) {
+            CLIENT_IDS.clear();
+        }
+    }
+
+    @Nullable
+    private static ResourceLocation clientLookup(int index) {
+        synchronized (CLIENT_IDS) {
+            if (index >= 0 && index < CLIENT_IDS.size()) return CLIENT_IDS.get(index);
+        }
+        CosmeticsLite.LOGGER.debug("[CosLite] Unknown palette index {}", index);
+        return null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import io.netty.buffer.Unpooled;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ServerData;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Client-side memory of the login bundle section hashes, scoped to one server.
+ *
+ * <p>Only cacheable sections are remembered (their state survives a disconnect). Anything that
+ * rewrites a section outside the bundle must {@link #invalidate} it so a stale hash is never
+ * offered to the server.</p>
+ *
+ * <p>Hashes persist next to the definition disk cache, in
+ * {@code <gamedir>/cosmeticslite/cache/login-<server hash>.bin}: int magic, byte version, utf server
+ * key, byte count, count x { byte section, long hash }. A section hash is only offered while the
+ * state behind it can be rebuilt, so DEFINITIONS is checked against
+ * {@link ParticleDefinitionClientCache#holds}.</p>
+ */
+@OnlyIn(Dist.CLIENT)
+public final class LoginSyncClientCache {
+
+    private LoginSyncClientCache() {}
+
+    private static final int MAGIC = 0x434C4C53; // "CLLS"
+    private static final int FORMAT = 1;
+
+    private static String serverKey = null;
+    private static final Map<S2CLoginBundle.Section, Long> HASHES = new EnumMap<>(S2CLoginBundle.Section.class);
+
+    /** Hashes to offer for the server we're joining; switches scope (and reloads) if it changed. */
+    public static synchronized Map<S2CLoginBundle.Section, Long> heldFor(String key) {
+        if (!Objects.equals(serverKey, key)) {
+            serverKey = key;
+            load(key);
+        }
+        Long defs = HASHES.get(S2CLoginBundle.Section.DEFINITIONS);
+        if (defs != null && !ParticleDefinitionClientCache.holds(key, defs)) {
+            HASHES.remove(S2CLoginBundle.Section.DEFINITIONS);
+            save();
+        }
+        Map<S2CLoginBundle.Section, Long> copy = new EnumMap<>(S2CLoginBundle.Section.class);
+        copy.putAll(HASHES);
+        return copy;
+    }
+
+    public static synchronized void remember(S2CLoginBundle.Section section, long hash) {
+        Long old = HASHES.put(section, hash);
+        if (old == null || old != hash) save();
+    }
+
+    public static synchronized void invalidate(S2CLoginBundle.Section section) {
+        if (HASHES.remove(section) != null) save();
+    }
+
+    /** Identity of the current connection: server address, or the singleplayer world name. */
+    public static String currentServerKey() {
+        Minecraft mc = Minecraft.getInstance();
+        var integrated = mc.getSingleplayerServer();
+        if (integrated != null) return "local:" + integrated.getWorldData().getLevelName();
+        ServerData data = mc.getCurrentServer();
+        return (data != null) ? "remote:" + data.ip : "unknown";
+    }
+
+    /** Per-server cache file: {@code <gamedir>/cosmeticslite/cache/<prefix>-<server hash>.bin}. */
+    static Path cacheFile(String prefix, String key) {
+        long h = S2CLoginBundle.hash(key.getBytes(StandardCharsets.UTF_8));
+        return FMLPaths.GAMEDIR.get().resolve(CosmeticsLite.MODID).resolve("cache")
+                .resolve(prefix + "-" + Long.toHexString(h) + ".bin");
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Disk
+    // --------------------------------------------------------------------------------------------
+
+    private static void load(String key) {
+        HASHES.clear();
+        Path file = cacheFile("login", key);
+        if (!Files.isRegularFile(file)) return;
+        FriendlyByteBuf buf = null;
+        try {
+            buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(Files.readAllBytes(file)));
+            if (buf.readInt() != MAGIC || buf.readUnsignedByte() != FORMAT || !key.equals(buf.readUtf())) {
+                return;
+            }
+            int n = buf.readUnsignedByte();
+            for (int i = 0; i < n; i++) {
+                S2CLoginBundle.Section section = S2CLoginBundle.Section.byOrdinal(buf.readUnsignedByte());
+                long hash = buf.readLong();
+                if (section != null && section.cacheable) HASHES.put(section, hash);
+            }
+        } catch (Exception e) {
+            // Unreadable: offer nothing, the next bundle rewrites it
+            HASHES.clear();
+            CosmeticsLite.LOGGER.warn("[CosLite] Ignoring unreadable login hash cache {}: {}", file, e.toString());
+        } finally {
+            if (buf != null) buf.release();
+        }
+    }
+
+    private static void save() {
+        if (serverKey == null) return;
+        Path file = cacheFile("login", serverKey);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        byte[] bytes;
+        try {
+            buf.writeInt(MAGIC);
+            buf.writeByte(FORMAT);
+            buf.writeUtf(serverKey);
+            buf.writeByte(HASHES.size());
+            HASHES.forEach((section, hash) -> {
+                buf.writeByte(section.ordinal());
+                buf.writeLong(hash);
+            });
+            bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+        } finally {
+            buf.release();
+        }
+
+        Util.ioPool().execute(() -> {
+            try {
+                Files.createDirectories(file.getParent());
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                Files.write(tmp, bytes);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Failed to write login hash cache {}: {}", file, e.toString());
+            }
+        });
+    }
+}
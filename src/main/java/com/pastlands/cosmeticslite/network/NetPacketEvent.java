@@ -0,0 +1,53 @@
+package com.pastlands.cosmeticslite.network;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import net.minecraft.server.level.ServerPlayer;
+
+import javax.annotation.Nullable;
+
+/**
+ * JFR event for one CosmeticsLite packet encode or decode, recorded by {@link NetTelemetry}.
+ * Enable {@code cosmeticslite.NetPacket} in the recording settings to capture it.
+ */
+@Name("cosmeticslite.NetPacket")
+@Label("CosmeticsLite Packet")
+@Category({"CosmeticsLite", "Network"})
+@Description("One CosmeticsLite packet encoded (sent) or decoded (received)")
+public final class NetPacketEvent extends Event {
+
+    private static final NetPacketEvent PROBE = new NetPacketEvent();
+
+    @Label("Packet Type")
+    String packetType;
+
+    @Label("Outbound")
+    boolean outbound;
+
+    @Label("Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Codec Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long codecNanos;
+
+    @Label("Player")
+    String player;
+
+    static void emit(String type, boolean outbound, int bytes, long nanos, @Nullable ServerPlayer player) {
+        if (!PROBE.isEnabled()) return;
+        NetPacketEvent e = new NetPacketEvent();
+        e.packetType = type;
+        e.outbound = outbound;
+        e.bytes = bytes;
+        e.codecNanos = nanos;
+        e.player = player != null ? player.getGameProfile().getName() : null;
+        e.commit();
+    }
+}
@@ -0,0 +1,214 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.PacketDistributor;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Counters for every packet type on {@link CosmeticsLite#NETWORK}.
+ *
+ * <p>{@link CosmeticsLite} registers each message with {@link #encoder}/{@link #decoder}
+ * wrappers, which record per packet class: messages and bytes encoded ("sent") and decoded
+ * ("received"), plus time spent in the codec. A {@link NetPacketEvent} is committed for each one
+ * while a JFR recording has it enabled.</p>
+ *
+ * <p>Per-player totals count what the server encoded for a player. Sends made through
+ * {@link #send(PacketDistributor.PacketTarget, ServerPlayer, Object)} name that player; for
+ * tracking broadcasts it is the player the packet is about, so the figure is "traffic caused
+ * by" rather than "traffic received by" for those. Note that a broadcast is encoded once, so
+ * "sent" counts encodes, not per-connection copies.</p>
+ *
+ * <p>Encoders run on whichever thread sends (server thread, netty for replies); all state here is
+ * concurrent.</p>
+ */
+public final class NetTelemetry {
+
+    private NetTelemetry() {}
+
+    /** Counters for one packet class. */
+    public static final class Stats {
+        final LongAdder sent = new LongAdder();
+        final LongAdder sentBytes = new LongAdder();
+        final LongAdder encodeNanos = new LongAdder();
+        final LongAdder received = new LongAdder();
+        final LongAdder receivedBytes = new LongAdder();
+        final LongAdder decodeNanos = new LongAdder();
+    }
+
+    /** Counters for one player (server side). */
+    public static final class PlayerStats {
+        final LongAdder messages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+
+    private static final Map<Class<?>, Stats> BY_TYPE = new ConcurrentHashMap<>();
+    private static final Map<UUID, PlayerStats> BY_PLAYER = new ConcurrentHashMap<>();
+    private static final Map<UUID, String> NAMES = new ConcurrentHashMap<>();
+
+    /** Player the current {@link #send} call is attributed to (encode runs inside it). */
+    private static final ThreadLocal<ServerPlayer> ATTRIBUTE = new ThreadLocal<>();
+
+    private static volatile long sinceMillis = System.currentTimeMillis();
+
+    // --------------------------------------------------------------------------------------------
+    // Registration wrappers
+    // --------------------------------------------------------------------------------------------
+
+    public static <T> BiConsumer<T, FriendlyByteBuf> encoder(Class<T> type, BiConsumer<T, FriendlyByteBuf> encoder) {
+        Stats stats = BY_TYPE.computeIfAbsent(type, k -> new Stats());
+        String name = type.getSimpleName();
+        return (msg, buf) -> {
+            int start = buf.writerIndex();
+            long t0 = System.nanoTime();
+            encoder.accept(msg, buf);
+            long nanos = System.nanoTime() - t0;
+            int bytes = buf.writerIndex() - start;
+
+            stats.sent.increment();
+            stats.sentBytes.add(bytes);
+            stats.encodeNanos.add(nanos);
+
+            ServerPlayer sp = ATTRIBUTE.get();
+            if (sp != null) {
+                PlayerStats ps = BY_PLAYER.computeIfAbsent(sp.getUUID(), k -> new PlayerStats());
+                ps.messages.increment();
+                ps.bytes.add(bytes);
+            }
+            NetPacketEvent.emit(name, true, bytes, nanos, sp);
+        };
+    }
+
+    public static <T> Function<FriendlyByteBuf, T> decoder(Class<T> type, Function<FriendlyByteBuf, T> decoder) {
+        Stats stats = BY_TYPE.computeIfAbsent(type, k -> new Stats());
+        String name = type.getSimpleName();
+        return buf -> {
+            int start = buf.readerIndex();
+            long t0 = System.nanoTime();
+            T msg = decoder.apply(buf);
+            long nanos = System.nanoTime() - t0;
+            int bytes = buf.readerIndex() - start;
+
+            stats.received.increment();
+            stats.receivedBytes.add(bytes);
+            stats.decodeNanos.add(nanos);
+            NetPacketEvent.emit(name, false, bytes, nanos, null);
+            return msg;
+        };
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Attributed send
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * {@code NETWORK.send}, with the encoded bytes also counted against {@code player}. The target
+     * may reach other connections (tracking broadcasts), so palette indices are used only when
+     * every online connection is primed.
+     */
+    public static void send(PacketDistributor.PacketTarget target, @Nullable ServerPlayer player, Object msg) {
+        send(target, player, msg, IdPalette.allPrimed());
+    }
+
+    /** Direct send to one player. */
+    public static void sendTo(ServerPlayer player, Object msg) {
+        send(PacketDistributor.PLAYER.with(() -> player), player, msg, IdPalette.isPrimed(player));
+    }
+
+    private static void send(PacketDistributor.PacketTarget target, @Nullable ServerPlayer player, Object msg,
+                             boolean primed) {
+        if (player == null) {
+            IdPalette.encodeFor(primed, () -> CosmeticsLite.NETWORK.send(target, msg));
+            return;
+        }
+        NAMES.putIfAbsent(player.getUUID(), player.getGameProfile().getName());
+        ServerPlayer outer = ATTRIBUTE.get();
+        ATTRIBUTE.set(player);
+        try {
+            IdPalette.encodeFor(primed, () -> CosmeticsLite.NETWORK.send(target, msg));
+        } finally {
+            ATTRIBUTE.set(outer);
+        }
+    }
+
+    /** Drop a player's totals (logout). */
+    public static void forget(UUID uuid) {
+        BY_PLAYER.remove(uuid);
+        NAMES.remove(uuid);
+    }
+
+    public static void reset() {
+        BY_TYPE.values().forEach(s -> {
+            s.sent.reset(); s.sentBytes.reset(); s.encodeNanos.reset();
+            s.received.reset(); s.receivedBytes.reset(); s.decodeNanos.reset();
+        });
+        BY_PLAYER.clear();
+        sinceMillis = System.currentTimeMillis();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Reporting
+    // --------------------------------------------------------------------------------------------
+
+    /** Report lines for {@code /cosmetics perf net}: busiest packet types, then players. */
+    public static List<String> report(int limit) {
+        List<String> out = new ArrayList<>();
+        double secs = Math.max(1.0, (System.currentTimeMillis() - sinceMillis) / 1000.0);
+        out.add(String.format("CosmeticsLite network over %.0fs (sent = encoded, recv = decoded):", secs));
+
+        List<Map.Entry<Class<?>, Stats>> types = new ArrayList<>(BY_TYPE.entrySet());
+        types.removeIf(e -> e.getValue().sent.sum() == 0 && e.getValue().received.sum() == 0);
+        types.sort(Comparator.comparingLong((Map.Entry<Class<?>, Stats> e) ->
+                e.getValue().sentBytes.sum() + e.getValue().receivedBytes.sum()).reversed());
+        long totalSent = 0, totalRecv = 0;
+        for (Map.Entry<Class<?>, Stats> e : types) {
+            totalSent += e.getValue().sentBytes.sum();
+            totalRecv += e.getValue().receivedBytes.sum();
+        }
+        out.add(String.format("  total: sent %s (%s/s), recv %s (%s/s)",
+                bytes(totalSent), bytes((long) (totalSent / secs)), bytes(totalRecv), bytes((long) (totalRecv / secs))));
+
+        for (int i = 0; i < Math.min(limit, types.size()); i++) {
+            Stats s = types.get(i).getValue();
+            long sent = s.sent.sum(), recv = s.received.sum();
+            out.add(String.format("  %s: sent %d / %s (enc %s), recv %d / %s (dec %s)",
+                    types.get(i).getKey().getSimpleName(),
+                    sent, bytes(s.sentBytes.sum()), avgMicros(s.encodeNanos.sum(), sent),
+                    recv, bytes(s.receivedBytes.sum()), avgMicros(s.decodeNanos.sum(), recv)));
+        }
+
+        if (!BY_PLAYER.isEmpty()) {
+            out.add("  per player (sent):");
+            List<Map.Entry<UUID, PlayerStats>> players = new ArrayList<>(BY_PLAYER.entrySet());
+            players.sort(Comparator.comparingLong((Map.Entry<UUID, PlayerStats> e) -> e.getValue().bytes.sum()).reversed());
+            for (int i = 0; i < Math.min(limit, players.size()); i++) {
+                PlayerStats ps = players.get(i).getValue();
+                out.add(String.format("    %s: %d msg, %s",
+                        NAMES.getOrDefault(players.get(i).getKey(), players.get(i).getKey().toString()),
+                        ps.messages.sum(), bytes(ps.bytes.sum())));
+            }
+        }
+        return out;
+    }
+
+    private static String bytes(long b) {
+        if (b < 1024) return b + " B";
+        if (b < 1024 * 1024) return String.format("%.1f KiB", b / 1024.0);
+        return String.format("%.2f MiB", b / (1024.0 * 1024.0));
+    }
+
+    private static String avgMicros(long nanos, long count) {
+        return count == 0 ? "-" : String.format("%.1fµs avg", nanos / 1000.0 / count);
+    }
+}
@@ -7,7 +7,6 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.function.Supplier;
 
@@ -47,10 +46,7 @@ public final class OpenMiniGameHubPacket {
             }
 
             // Send response packet to open the hub
-            CosmeticsLite.NETWORK.send(
-                PacketDistributor.PLAYER.with(() -> player),
-                new OpenMiniGameHubResponsePacket()
-            );
+            NetTelemetry.sendTo(player, new OpenMiniGameHubResponsePacket());
         });
         ctx.get().setPacketHandled(true);
     }
@@ -6,7 +6,6 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.function.Supplier;
 
@@ -36,10 +35,7 @@ public final class OpenParticleLabPacket {
                 return;
             }
 
-            CosmeticsLite.NETWORK.send(
-                PacketDistributor.PLAYER.with(() -> player),
-                new OpenParticleLabResponsePacket()
-            );
+            NetTelemetry.sendTo(player, new OpenParticleLabResponsePacket());
         });
         ctx.get().setPacketHandled(true);
     }
@@ -2,6 +2,7 @@
 package com.pastlands.cosmeticslite.network;
 
 import com.mojang.logging.LogUtils;
+import com.pastlands.cosmeticslite.CosmeticEquipEvents;
 import com.pastlands.cosmeticslite.PlayerData;
 import com.pastlands.cosmeticslite.entity.PetManager;
 import net.minecraft.nbt.CompoundTag;
@@ -73,7 +74,8 @@ public class PacketSetPetColor {
                 });
 
                 clearEntityDyeLock(active);
-                PetManager.updatePlayerPet(player);
+                // Pet restyle (PetManager) and sync observers run off the event
+                CosmeticEquipEvents.publishStyle(player, PlayerData.TYPE_PETS);
                 return;
             }
 
@@ -104,8 +106,8 @@ public class PacketSetPetColor {
             // Immediate visual apply for snappy UX (if a pet is present)
             applyToActivePet(player, chosen);
 
-            // Ensure server-side restyle uses the persisted value
-            PetManager.updatePlayerPet(player);
+            // Ensure server-side restyle uses the persisted value (PetManager listens)
+            CosmeticEquipEvents.publishStyle(player, PlayerData.TYPE_PETS);
         });
         context.setPacketHandled(true);
     }
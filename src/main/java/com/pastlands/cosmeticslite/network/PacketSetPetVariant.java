@@ -4,6 +4,7 @@ package com.pastlands.cosmeticslite.network;
 import com.mojang.logging.LogUtils;
 import com.pastlands.cosmeticslite.entity.PetManager;
 import com.pastlands.cosmeticslite.entity.CosmeticPetParrot;
+import com.pastlands.cosmeticslite.CosmeticEquipEvents;
 import com.pastlands.cosmeticslite.PlayerData;
 import net.minecraft.world.entity.npc.VillagerProfession;
 import net.minecraft.world.entity.npc.VillagerData;
@@ -114,7 +115,7 @@ if (msg.random) {
     setRandom(player, true);
     scrubExplicitVariant(player);
     clearEntityVariantLock(pet);
-    PetManager.updatePlayerPet(player);
+    CosmeticEquipEvents.publishStyle(player, PlayerData.TYPE_PETS);
     return;
 }
 
@@ -124,8 +125,8 @@ persistExplicitVariant(player, msg.variantKey);
 clearEntityVariantLock(pet);
 applyVariantToActivePet(player, msg.variantKey);
 
-// ✅ 3) Ensure a final refresh so PetManager reapplies saved style on the live pet
-PetManager.updatePlayerPet(player);
+// ✅ 3) Publish the style change: PetManager reapplies saved style on the live pet, sync observers mark it dirty
+CosmeticEquipEvents.publishStyle(player, PlayerData.TYPE_PETS);
 
         });
         ctx.get().setPacketHandled(true);
@@ -9,7 +9,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,7 +16,7 @@ import java.util.function.Supplier;
 
 /**
  * Client → Server: Save a particle definition change (CREATE/UPDATE/DELETE).
- * Server validates permission, saves to config, and broadcasts update to all clients.
+ * Server validates permission, saves to config, and broadcasts a single-definition delta to all clients.
  */
 public final class ParticleDefinitionChangePacket {
     public enum ChangeType {
@@ -121,13 +120,8 @@ public final class ParticleDefinitionChangePacket {
             }
 
             if (success && msg.changeType != ChangeType.DELETE) {
-                // Broadcast updated definitions to all clients
-                Map<ResourceLocation, ParticleDefinition> allDefs = new HashMap<>();
-                for (var def : CosmeticParticleRegistry.all()) {
-                    allDefs.put(def.id(), def);
-                }
-                ParticleDefinitionsSyncPacket syncPacket = new ParticleDefinitionsSyncPacket(allDefs);
-                CosmeticsLite.NETWORK.send(PacketDistributor.ALL.noArg(), syncPacket);
+                // Broadcast just this definition (debounced per id) instead of the whole registry
+                ParticleDefinitionDeltas.markChanged(msg.definition.id());
             }
         });
         ctx.get().setPacketHandled(true);
@@ -0,0 +1,222 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.particle.config.ParticleDefinition;
+import io.netty.buffer.Unpooled;
+import net.minecraft.Util;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side disk cache of particle definition bodies, one file per server.
+ *
+ * <p>Location: {@code <gamedir>/cosmeticslite/cache/defs-<server hash>.bin}. Binary layout:
+ * int magic, byte version, utf server key, bool snapshot, [long snapshot hash], varint count,
+ * count x { utf id, long hash, byte[] body }. Bodies are the server's
+ * {@link ParticleDefinitionManifest#encodeBody} bytes, so a hash match means the body is current.</p>
+ *
+ * <p>The snapshot hash is the login bundle's DEFINITIONS section hash that the entries were last
+ * pruned to. It is written in the same file as the bodies, so {@link LoginSyncClientCache} offers
+ * that hash only when {@link #holds} confirms the bodies on disk can rebuild it.</p>
+ *
+ * <p>Flow: the login manifest resolves every id it can from here, asks the server for the rest,
+ * and applies the full lab snapshot once the bodies arrive. All calls run on the client main
+ * thread; writes go to the IO pool.</p>
+ */
+@OnlyIn(Dist.CLIENT)
+public final class ParticleDefinitionClientCache {
+
+    private ParticleDefinitionClientCache() {}
+
+    private static final int MAGIC = 0x434C4443; // "CLDC"
+    private static final int FORMAT = 2;
+
+    private record Entry(long hash, byte[] body) {}
+
+    private static String loadedKey = null;
+    private static final Map<ResourceLocation, Entry> ENTRIES = new HashMap<>();
+    /** DEFINITIONS section hash that {@link #ENTRIES} matches exactly; null after any other change. */
+    @Nullable
+    private static Long snapshotHash = null;
+    /** Manifest waiting for requested bodies; null when nothing is in flight. */
+    @Nullable
+    private static Map<ResourceLocation, Long> pending = null;
+    private static long pendingHash;
+
+    // --------------------------------------------------------------------------------------------
+    // Sync flow
+    // --------------------------------------------------------------------------------------------
+
+    /** Login manifest arrived: apply from cache, or request what's missing first. */
+    public static void onManifest(ParticleDefinitionManifest manifest, long sectionHash) {
+        ensureLoaded(LoginSyncClientCache.currentServerKey());
+        Map<ResourceLocation, Long> hashes = manifest.hashes();
+        List<ResourceLocation> missing = new ArrayList<>();
+        hashes.forEach((id, hash) -> {
+            Entry e = ENTRIES.get(id);
+            if (e == null || e.hash() != hash) missing.add(id);
+        });
+
+        if (missing.isEmpty()) {
+            pending = null;
+            applySnapshot(hashes, sectionHash);
+            CosmeticsLite.LOGGER.info("[ParticleLab] {} definition(s) restored from disk cache", hashes.size());
+        } else {
+            pending = hashes;
+            pendingHash = sectionHash;
+            CosmeticsLite.NETWORK.sendToServer(new C2SParticleDefinitionsRequest(missing));
+            CosmeticsLite.LOGGER.info("[ParticleLab] {} of {} definition(s) cached; requesting {}",
+                    hashes.size() - missing.size(), hashes.size(), missing.size());
+        }
+    }
+
+    /** Requested bodies arrived: cache them and apply the pending manifest. */
+    public static void onBodies(Map<ResourceLocation, byte[]> bodies) {
+        bodies.forEach((id, body) -> ENTRIES.put(id, new Entry(S2CLoginBundle.hash(body), body)));
+        if (pending != null) {
+            Map<ResourceLocation, Long> manifest = pending;
+            pending = null;
+            applySnapshot(manifest, pendingHash);
+        }
+    }
+
+    /** Login bundle skipped the section because we hold {@code sectionHash}: rebuild it from disk. */
+    public static void onReused(long sectionHash) {
+        ensureLoaded(LoginSyncClientCache.currentServerKey());
+        if (snapshotHash == null || snapshotHash != sectionHash) {
+            // holds() gates the offer, so this only happens if the file changed underneath us
+            CosmeticsLite.LOGGER.warn("[ParticleLab] Definition cache does not match the reused login hash; rejoin to refetch");
+            LoginSyncClientCache.invalidate(S2CLoginBundle.Section.DEFINITIONS);
+            return;
+        }
+        Map<ResourceLocation, Long> manifest = new HashMap<>(Math.max(16, ENTRIES.size() * 2));
+        ENTRIES.forEach((id, e) -> manifest.put(id, e.hash()));
+        applySnapshot(manifest, sectionHash);
+        CosmeticsLite.LOGGER.info("[ParticleLab] {} definition(s) restored from disk cache", manifest.size());
+    }
+
+    /** True when the disk cache for {@code key} can rebuild the DEFINITIONS section {@code sectionHash}. */
+    public static boolean holds(String key, long sectionHash) {
+        ensureLoaded(key);
+        return snapshotHash != null && snapshotHash == sectionHash;
+    }
+
+    /** Single-definition changes broadcast while connected: keep the disk copy current. */
+    public static void onDelta(List<S2CParticleDefinitionDelta.Change> changes) {
+        ensureLoaded(LoginSyncClientCache.currentServerKey());
+        for (S2CParticleDefinitionDelta.Change c : changes) {
+            if (c.body() == null) {
+                ENTRIES.remove(c.id());
+            } else {
+                ENTRIES.put(c.id(), new Entry(S2CLoginBundle.hash(c.body()), c.body()));
+            }
+        }
+        snapshotHash = null;
+        save();
+    }
+
+    /** Apply every manifest id whose cached body matches; prune the rest and persist. */
+    private static void applySnapshot(Map<ResourceLocation, Long> manifest, long sectionHash) {
+        Map<ResourceLocation, ParticleDefinition> defs = new HashMap<>(Math.max(16, manifest.size() * 2));
+        manifest.forEach((id, hash) -> {
+            Entry e = ENTRIES.get(id);
+            if (e == null || e.hash() != hash) {
+                CosmeticsLite.LOGGER.warn("[ParticleLab] Definition {} unavailable (not sent by server)", id);
+                return;
+            }
+            ParticleDefinition def = ParticleDefinitionManifest.decodeBody(id, e.body());
+            if (def != null) defs.put(id, def);
+        });
+        ParticleDefinitionsSyncPacket.apply(new ParticleDefinitionsSyncPacket(defs));
+
+        ENTRIES.keySet().retainAll(manifest.keySet());
+        snapshotHash = ENTRIES.size() == manifest.size() ? sectionHash : null;
+        save();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Disk
+    // --------------------------------------------------------------------------------------------
+
+    private static void ensureLoaded(String key) {
+        if (key.equals(loadedKey)) return;
+        loadedKey = key;
+        ENTRIES.clear();
+        snapshotHash = null;
+        pending = null;
+
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) return;
+        FriendlyByteBuf buf = null;
+        try {
+            buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(Files.readAllBytes(file)));
+            if (buf.readInt() != MAGIC || buf.readUnsignedByte() != FORMAT || !key.equals(buf.readUtf())) {
+                return;
+            }
+            Long snapshot = buf.readBoolean() ? buf.readLong() : null;
+            int n = buf.readVarInt();
+            for (int i = 0; i < n; i++) {
+                ResourceLocation id = buf.readResourceLocation();
+                long hash = buf.readLong();
+                ENTRIES.put(id, new Entry(hash, buf.readByteArray()));
+            }
+            snapshotHash = snapshot;
+        } catch (Exception e) {
+            // Corrupt or truncated file: start empty, it gets rewritten after the next sync
+            ENTRIES.clear();
+            CosmeticsLite.LOGGER.warn("[ParticleLab] Ignoring unreadable definition cache {}: {}", file, e.toString());
+        } finally {
+            if (buf != null) buf.release();
+        }
+    }
+
+    private static void save() {
+        if (loadedKey == null) return;
+        Path file = fileFor(loadedKey);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        byte[] bytes;
+        try {
+            buf.writeInt(MAGIC);
+            buf.writeByte(FORMAT);
+            buf.writeUtf(loadedKey);
+            buf.writeBoolean(snapshotHash != null);
+            if (snapshotHash != null) buf.writeLong(snapshotHash);
+            buf.writeVarInt(ENTRIES.size());
+            ENTRIES.forEach((id, e) -> {
+                buf.writeResourceLocation(id);
+                buf.writeLong(e.hash());
+                buf.writeByteArray(e.body());
+            });
+            bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+        } finally {
+            buf.release();
+        }
+
+        Util.ioPool().execute(() -> {
+            try {
+                Files.createDirectories(file.getParent());
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                Files.write(tmp, bytes);
+                Files.move(tmp, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                CosmeticsLite.LOGGER.warn("[ParticleLab] Failed to write definition cache {}: {}", file, e.toString());
+            }
+        });
+    }
+
+    private static Path fileFor(String key) {
+        return LoginSyncClientCache.cacheFile("defs", key);
+    }
+}
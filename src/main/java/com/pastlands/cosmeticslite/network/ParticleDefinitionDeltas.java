@@ -0,0 +1,75 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.CosmeticsMetrics;
+import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
+import com.pastlands.cosmeticslite.particle.config.ParticleDefinition;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side, per-id debounced broadcast of Particle Lab changes.
+ *
+ * <p>Saves and deletes call {@link #markChanged}; an id is flushed once it has been quiet for
+ * {@link #DEBOUNCE_TICKS}, so an editor hammering Save sends one delta, not one per click.
+ * The flush reads the registry at that moment: present → upsert, absent → delete.</p>
+ */
+@Mod.EventBusSubscriber(modid = CosmeticsLite.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ParticleDefinitionDeltas {
+
+    private ParticleDefinitionDeltas() {}
+
+    /** Quiet period before a changed id is broadcast (0.5 s). */
+    private static final int DEBOUNCE_TICKS = 10;
+
+    /** id -> server tick at which it may be flushed. Server thread only. */
+    private static final Map<ResourceLocation, Integer> DUE = new LinkedHashMap<>();
+
+    private static final CosmeticsMetrics.Timer FLUSH_TIME = CosmeticsMetrics.timer("server.particles.deltas");
+
+    /** Queue (or push back) a broadcast for {@code id}. Server thread. */
+    public static void markChanged(ResourceLocation id) {
+        var server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (id == null || server == null) return;
+        DUE.remove(id); // keep insertion order = order of last change
+        DUE.put(id, server.getTickCount() + DEBOUNCE_TICKS);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || DUE.isEmpty()) return;
+        long start = System.nanoTime();
+        flush(event.getServer().getTickCount());
+        FLUSH_TIME.recordSince(start);
+    }
+
+    private static void flush(int now) {
+        List<S2CParticleDefinitionDelta.Change> changes = new ArrayList<>();
+        for (Iterator<Map.Entry<ResourceLocation, Integer>> it = DUE.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<ResourceLocation, Integer> e = it.next();
+            if (e.getValue() > now) continue;
+            it.remove();
+            ParticleDefinition def = CosmeticParticleRegistry.get(e.getKey());
+            changes.add(new S2CParticleDefinitionDelta.Change(e.getKey(),
+                    def != null ? ParticleDefinitionManifest.encodeBody(def) : null));
+        }
+        if (changes.isEmpty()) return;
+
+        IdPalette.extend(changes.stream().map(S2CParticleDefinitionDelta.Change::id).toList());
+        // Same queue as snapshots, so a delta can never overtake an older snapshot still in flight
+        ChunkedTransfer.sendToAll(new S2CParticleDefinitionDelta(changes));
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(net.minecraftforge.event.server.ServerStoppedEvent event) {
+        DUE.clear();
+    }
+}
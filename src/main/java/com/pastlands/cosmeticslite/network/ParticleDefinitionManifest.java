@@ -0,0 +1,80 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
+import com.pastlands.cosmeticslite.particle.config.ParticleDefinition;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Login bundle section for particle definitions: id → content hash, no bodies.
+ *
+ * <p>The hash covers the {@link ParticleDefinitionsSyncPacket#writeParticleDefinition} body, which
+ * uses literal ids only, so it stays valid across sessions and can key the client disk cache.
+ * Clients fetch missing or stale bodies with {@link C2SParticleDefinitionsRequest}.</p>
+ */
+public final class ParticleDefinitionManifest {
+    private final Map<ResourceLocation, Long> hashes;
+
+    public ParticleDefinitionManifest(Map<ResourceLocation, Long> hashes) {
+        this.hashes = hashes;
+    }
+
+    public Map<ResourceLocation, Long> hashes() {
+        return hashes;
+    }
+
+    /** Server: manifest of the current registry. */
+    public static ParticleDefinitionManifest ofRegistry() {
+        Map<ResourceLocation, Long> hashes = new LinkedHashMap<>();
+        for (ParticleDefinition def : CosmeticParticleRegistry.all()) {
+            hashes.put(def.id(), S2CLoginBundle.hash(encodeBody(def)));
+        }
+        return new ParticleDefinitionManifest(hashes);
+    }
+
+    /** Definition body exactly as it is hashed, cached and shipped. */
+    public static byte[] encodeBody(ParticleDefinition def) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            ParticleDefinitionsSyncPacket.writeParticleDefinition(buf, def);
+            byte[] out = new byte[buf.readableBytes()];
+            buf.readBytes(out);
+            return out;
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Nullable
+    public static ParticleDefinition decodeBody(ResourceLocation id, byte[] body) {
+        return ParticleDefinitionsSyncPacket.readParticleDefinition(new FriendlyByteBuf(Unpooled.wrappedBuffer(body)), id);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(ParticleDefinitionManifest msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.hashes.size());
+        msg.hashes.forEach((id, hash) -> {
+            IdPalette.write(buf, id);
+            buf.writeLong(hash);
+        });
+    }
+
+    public static ParticleDefinitionManifest decode(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        Map<ResourceLocation, Long> hashes = new LinkedHashMap<>(Math.max(16, n * 2));
+        for (int i = 0; i < n; i++) {
+            ResourceLocation id = IdPalette.read(buf);
+            long hash = buf.readLong();
+            if (id != null) hashes.put(id, hash);
+        }
+        return new ParticleDefinitionManifest(hashes);
+    }
+}
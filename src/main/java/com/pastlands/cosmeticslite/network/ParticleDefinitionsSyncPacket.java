@@ -39,7 +39,7 @@ public final class ParticleDefinitionsSyncPacket {
     public static void encode(ParticleDefinitionsSyncPacket msg, FriendlyByteBuf buf) {
         buf.writeVarInt(msg.definitions.size());
         for (Map.Entry<ResourceLocation, ParticleDefinition> entry : msg.definitions.entrySet()) {
-            writeResourceLocation(buf, entry.getKey());
+            IdPalette.write(buf, entry.getKey());
             writeParticleDefinition(buf, entry.getValue());
         }
     }
@@ -48,9 +48,9 @@ public final class ParticleDefinitionsSyncPacket {
         int count = buf.readVarInt();
         Map<ResourceLocation, ParticleDefinition> definitions = new HashMap<>(count);
         for (int i = 0; i < count; i++) {
-            ResourceLocation id = readResourceLocation(buf);
+            ResourceLocation id = IdPalette.read(buf);
             ParticleDefinition def = readParticleDefinition(buf, id);
-            if (def != null) {
+            if (id != null && def != null) {
                 definitions.put(id, def);
             }
         }
@@ -63,26 +63,33 @@ public final class ParticleDefinitionsSyncPacket {
 
     public static void handle(ParticleDefinitionsSyncPacket msg, Supplier<NetworkEvent.Context> ctx) {
         ctx.get().enqueueWork(() -> {
-            // Apply lab snapshot from server (replaces only lab entries, leaves built-ins untouched)
-            CosmeticParticleRegistry.applyLabSnapshotFromServer(msg.definitions);
-            CosmeticsLite.LOGGER.info("[ParticleLab] Applied lab snapshot from server: {} definition(s)",
-                msg.definitions.size());
-            
-            // Update ParticleLabScreen's editor collection if it's open
-            net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
-            if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen) {
-                ((com.pastlands.cosmeticslite.client.screen.ParticleLabScreen) mc.screen).onDefinitionsSynced(msg.definitions);
-            } else {
-                // Screen is not open, but we should still log what was synced for debugging
-                if (!msg.definitions.isEmpty()) {
-                    CosmeticsLite.LOGGER.debug("[cosmeticslite] Synced definitions (screen closed): {}", 
-                        msg.definitions.keySet().stream().map(ResourceLocation::toString).collect(java.util.stream.Collectors.joining(", ")));
-                }
-            }
+            // Content changed outside the login bundle: the remembered section hash is stale
+            LoginSyncClientCache.invalidate(S2CLoginBundle.Section.DEFINITIONS);
+            apply(msg);
         });
         ctx.get().setPacketHandled(true);
     }
 
+    /** Client main thread: apply the snapshot (also used by the login bundle). */
+    public static void apply(ParticleDefinitionsSyncPacket msg) {
+        // Apply lab snapshot from server (replaces only lab entries, leaves built-ins untouched)
+        CosmeticParticleRegistry.applyLabSnapshotFromServer(msg.definitions);
+        CosmeticsLite.LOGGER.info("[ParticleLab] Applied lab snapshot from server: {} definition(s)",
+            msg.definitions.size());
+        
+        // Update ParticleLabScreen's editor collection if it's open
+        net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
+        if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen) {
+            ((com.pastlands.cosmeticslite.client.screen.ParticleLabScreen) mc.screen).onDefinitionsSynced(msg.definitions);
+        } else {
+            // Screen is not open, but we should still log what was synced for debugging
+            if (!msg.definitions.isEmpty()) {
+                CosmeticsLite.LOGGER.debug("[cosmeticslite] Synced definitions (screen closed): {}", 
+                    msg.definitions.keySet().stream().map(ResourceLocation::toString).collect(java.util.stream.Collectors.joining(", ")));
+            }
+        }
+    }
+
     // --------------------------------------------------------------------------------------------
     // Serialization Helpers (public for use by other packets)
     // --------------------------------------------------------------------------------------------
@@ -9,10 +9,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.PacketDistributor;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -98,18 +95,11 @@ public final class ParticleLabDeletePacket {
             CosmeticsLite.LOGGER.info("[cosmeticslite] {} deleted particle definition: {} (cosmetic: {})", 
                 player.getName().getString(), msg.particleId, cosmeticId);
 
-            // Sync updated definitions to all clients
-            Map<ResourceLocation, com.pastlands.cosmeticslite.particle.config.ParticleDefinition> allDefs = new HashMap<>();
-            for (var def : CosmeticParticleRegistry.all()) {
-                allDefs.put(def.id(), def);
-            }
-            ParticleDefinitionsSyncPacket defSyncPacket = new ParticleDefinitionsSyncPacket(allDefs);
-            CosmeticsLite.NETWORK.send(PacketDistributor.ALL.noArg(), defSyncPacket);
+            // Broadcast the removal as a single-definition delta (debounced per id)
+            ParticleDefinitionDeltas.markChanged(msg.particleId);
 
-            // Sync updated catalog to all clients
-            com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket catalogSync = 
-                new com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket(catalog.all());
-            CosmeticsLite.NETWORK.send(PacketDistributor.ALL.noArg(), catalogSync);
+            // New catalog stamp to all clients; loaded slots are refetched on demand
+            CatalogSync.onCatalogChanged();
 
             player.sendSystemMessage(Component.literal("§aDeleted particle: " + msg.particleId));
         });
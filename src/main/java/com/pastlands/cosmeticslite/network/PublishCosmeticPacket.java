@@ -157,10 +157,10 @@ public final class PublishCosmeticPacket {
             CosmeticsLite.LOGGER.info("[cosmeticslite] {} published cosmetic: {} -> {} [{}]", 
                 player.getName().getString(), cosmeticId, msg.particleId, slot);
 
-            // Sync catalog to all clients
-            com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket syncPacket = 
-                new com.pastlands.cosmeticslite.network.CosmeticParticlesSyncPacket(catalog.all());
-            CosmeticsLite.NETWORK.send(net.minecraftforge.network.PacketDistributor.ALL.noArg(), syncPacket);
+            // New ids go into the session palette before the catalog references them
+            IdPalette.refreshFromRegistries();
+            // New stamp to all clients; those with the catalog loaded refetch their slots
+            CatalogSync.onCatalogChanged();
         });
         ctx.get().setPacketHandled(true);
     }
@@ -0,0 +1,74 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.particle.CosmeticParticleEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: the catalog entries of one slot (or all slots), tagged with the stamp they
+ * belong to. Entry encoding is shared with {@link CosmeticParticlesSyncPacket}.
+ *
+ * <p>Payload: long stamp, bool hasSlot, [enum slot], varint count, count x entry.</p>
+ */
+public final class S2CCatalogSlice {
+    private final long stamp;
+    @Nullable
+    private final CosmeticParticleEntry.Slot slot;
+    private final List<CosmeticParticleEntry> entries;
+
+    public S2CCatalogSlice(long stamp, @Nullable CosmeticParticleEntry.Slot slot, List<CosmeticParticleEntry> entries) {
+        this.stamp = stamp;
+        this.slot = slot;
+        this.entries = entries;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CCatalogSlice msg, FriendlyByteBuf buf) {
+        buf.writeLong(msg.stamp);
+        buf.writeBoolean(msg.slot != null);
+        if (msg.slot != null) buf.writeEnum(msg.slot);
+        buf.writeVarInt(msg.entries.size());
+        for (CosmeticParticleEntry entry : msg.entries) {
+            CosmeticParticlesSyncPacket.encodeEntry(entry, buf);
+        }
+    }
+
+    public static S2CCatalogSlice decode(FriendlyByteBuf buf) {
+        long stamp = buf.readLong();
+        CosmeticParticleEntry.Slot slot = buf.readBoolean() ? buf.readEnum(CosmeticParticleEntry.Slot.class) : null;
+        int count = buf.readVarInt();
+        List<CosmeticParticleEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CosmeticParticleEntry entry = CosmeticParticlesSyncPacket.decodeEntry(buf);
+            if (entry != null) entries.add(entry);
+        }
+        return new S2CCatalogSlice(stamp, slot, entries);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CCatalogSlice msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog.applySlice(msg.stamp, msg.slot, msg.entries);
+
+            // Notify open screens
+            net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
+            if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen screen) {
+                screen.onCatalogSynced();
+            } else if (mc.screen instanceof com.pastlands.cosmeticslite.CosmeticsChestScreen screen) {
+                screen.onCatalogSynced();
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pastlands.cosmeticslite.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: current particle catalog stamp (see {@link CatalogSync}). Also the body of
+ * the login bundle's catalog section.
+ */
+public final class S2CCatalogStamp {
+    private final long stamp;
+
+    public S2CCatalogStamp(long stamp) {
+        this.stamp = stamp;
+    }
+
+    public static void encode(S2CCatalogStamp msg, FriendlyByteBuf buf) {
+        buf.writeLong(msg.stamp);
+    }
+
+    public static S2CCatalogStamp decode(FriendlyByteBuf buf) {
+        return new S2CCatalogStamp(buf.readLong());
+    }
+
+    public static void handle(S2CCatalogStamp msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> apply(msg));
+        ctx.get().setPacketHandled(true);
+    }
+
+    /** Client main thread (also used by the login bundle). */
+    public static void apply(S2CCatalogStamp msg) {
+        com.pastlands.cosmeticslite.client.CosmeticParticleClientCatalog.onStamp(msg.stamp);
+    }
+}
@@ -24,7 +24,7 @@ import java.util.function.Supplier;
  * <p>Fields (minimum viable):</p>
  * <ul>
  *   <li>emitterEntityId - The entity ID of the player wearing the cosmetic</li>
- *   <li>effectId - The cosmetic ID or particle effect ID to spawn</li>
+ *   <li>effectId - The cosmetic ID or particle effect ID to spawn (palette varint, see {@link IdPalette})</li>
  *   <li>flags - Optional byte flags (inWater, sprinting, etc.)</li>
  *   <li>seed - Optional seed for consistent patterns per viewer</li>
  *   <li>strength - Optional strength/intensity multiplier</li>
@@ -61,7 +61,7 @@ public final class S2CCosmeticParticleEmit {
 
     public void encode(FriendlyByteBuf buf) {
         buf.writeVarInt(emitterEntityId);
-        buf.writeResourceLocation(effectId);
+        IdPalette.write(buf, effectId);
         buf.writeByte(flags);
         buf.writeVarInt(seed);
         buf.writeFloat(strength);
@@ -69,7 +69,7 @@ public final class S2CCosmeticParticleEmit {
 
     public static S2CCosmeticParticleEmit decode(FriendlyByteBuf buf) {
         int emitterEntityId = buf.readVarInt();
-        ResourceLocation effectId = buf.readResourceLocation();
+        ResourceLocation effectId = IdPalette.read(buf); // null if the palette index is unknown
         byte flags = buf.readByte();
         int seed = buf.readVarInt();
         float strength = buf.readFloat();
@@ -93,7 +93,7 @@ public final class S2CCosmeticParticleEmit {
     @OnlyIn(Dist.CLIENT)
     private static void handleClient(S2CCosmeticParticleEmit msg) {
         Minecraft mc = Minecraft.getInstance();
-        if (mc.level == null || mc.player == null) return;
+        if (mc.level == null || mc.player == null || msg.effectId == null) return;
 
         // Safety check: ignore packets for self to prevent double-spawning
         // (Server should not send to emitter, but this provides defense in depth)
@@ -0,0 +1,124 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.PlayerEntitlements;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: entitlement changes between two versions of one epoch.
+ *
+ * <p>Each id touched since {@code fromVersion} appears once with its presence at
+ * {@code toVersion}, so a client anywhere in [from, to] lands on the same state. A client that
+ * holds another epoch or an older version answers with a resync {@link C2SEntitlementsAck}.</p>
+ *
+ * <p>Payload: long epoch, varlong from, varlong to, then pack adds, pack removes (utf sets) and
+ * cosmetic adds, cosmetic removes (palette id sets).</p>
+ */
+public final class S2CEntitlementsDelta {
+    private final long epoch;
+    private final long fromVersion;
+    private final long toVersion;
+    private final Set<String> packAdds;
+    private final Set<String> packRemoves;
+    private final Set<String> cosmeticAdds;
+    private final Set<String> cosmeticRemoves;
+
+    public S2CEntitlementsDelta(long epoch, long fromVersion, long toVersion,
+                                Set<String> packAdds, Set<String> packRemoves,
+                                Set<String> cosmeticAdds, Set<String> cosmeticRemoves) {
+        this.epoch = epoch;
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.packAdds = packAdds;
+        this.packRemoves = packRemoves;
+        this.cosmeticAdds = cosmeticAdds;
+        this.cosmeticRemoves = cosmeticRemoves;
+    }
+
+    /** Collapse {@code changes} (from {@link PlayerEntitlements#changesSince}) against current state. */
+    public static S2CEntitlementsDelta of(PlayerEntitlements cap, long fromVersion, List<PlayerEntitlements.Change> changes) {
+        Set<String> packAdds = new LinkedHashSet<>(), packRemoves = new LinkedHashSet<>();
+        Set<String> cosAdds = new LinkedHashSet<>(), cosRemoves = new LinkedHashSet<>();
+        for (PlayerEntitlements.Change c : changes) {
+            if (c.pack()) {
+                boolean present = cap.allPacks().contains(c.id());
+                (present ? packAdds : packRemoves).add(c.id());
+            } else {
+                boolean present = cap.allCosmetics().contains(c.id());
+                (present ? cosAdds : cosRemoves).add(c.id());
+            }
+        }
+        return new S2CEntitlementsDelta(cap.epoch(), fromVersion, cap.version(), packAdds, packRemoves, cosAdds, cosRemoves);
+    }
+
+    public long epoch() { return epoch; }
+    public long fromVersion() { return fromVersion; }
+    public long toVersion() { return toVersion; }
+    public Set<String> packAdds() { return packAdds; }
+    public Set<String> packRemoves() { return packRemoves; }
+    public Set<String> cosmeticAdds() { return cosmeticAdds; }
+    public Set<String> cosmeticRemoves() { return cosmeticRemoves; }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CEntitlementsDelta msg, FriendlyByteBuf buf) {
+        buf.writeLong(msg.epoch);
+        buf.writeVarLong(msg.fromVersion);
+        buf.writeVarLong(msg.toVersion);
+        S2CEntitlementsSync.writeStringSet(buf, msg.packAdds);
+        S2CEntitlementsSync.writeStringSet(buf, msg.packRemoves);
+        writeIdSet(buf, msg.cosmeticAdds);
+        writeIdSet(buf, msg.cosmeticRemoves);
+    }
+
+    public static S2CEntitlementsDelta decode(FriendlyByteBuf buf) {
+        long epoch = buf.readLong();
+        long from = buf.readVarLong();
+        long to = buf.readVarLong();
+        Set<String> packAdds = S2CEntitlementsSync.readStringSet(buf);
+        Set<String> packRemoves = S2CEntitlementsSync.readStringSet(buf);
+        Set<String> cosAdds = readIdSet(buf);
+        Set<String> cosRemoves = readIdSet(buf);
+        return new S2CEntitlementsDelta(epoch, from, to, packAdds, packRemoves, cosAdds, cosRemoves);
+    }
+
+    private static void writeIdSet(FriendlyByteBuf buf, Set<String> set) {
+        buf.writeVarInt(set.size());
+        for (String s : set) IdPalette.writeString(buf, s);
+    }
+
+    private static Set<String> readIdSet(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        Set<String> out = new HashSet<>(Math.max(0, n));
+        for (int i = 0; i < n; i++) {
+            String s = IdPalette.readString(buf);
+            if (s != null) out.add(s);
+        }
+        return out;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CEntitlementsDelta msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            if (S2CEntitlementsSync.EntitlementsClientCache.applyDelta(msg)) {
+                C2SEntitlementsAck.send(msg.epoch, S2CEntitlementsSync.EntitlementsClientCache.version(), false);
+            } else {
+                // Out of step with the server: ask for a full snapshot
+                C2SEntitlementsAck.send(S2CEntitlementsSync.EntitlementsClientCache.epoch(),
+                        S2CEntitlementsSync.EntitlementsClientCache.version(), true);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -21,17 +21,29 @@ import java.util.function.Supplier;
  *   <li>cosmetics — fine-grained cosmetic ids</li>
  * </ul>
  *
+ * <p>Tagged with the entitlement epoch/version it represents; the client acknowledges it
+ * ({@link C2SEntitlementsAck}) so later changes can travel as {@link S2CEntitlementsDelta}.</p>
+ *
  * <p>On receipt, the client cache is updated so the GUI can filter what's visible/equippable.</p>
  */
 public final class S2CEntitlementsSync {
+    private final long epoch;
+    private final long version;
     private final Set<String> packs;
     private final Set<String> cosmetics;
 
-    public S2CEntitlementsSync(Set<String> packs, Set<String> cosmetics) {
+    public S2CEntitlementsSync(long epoch, long version, Set<String> packs, Set<String> cosmetics) {
+        this.epoch = epoch;
+        this.version = version;
         this.packs = packs == null ? Collections.emptySet() : Set.copyOf(packs);
         this.cosmetics = cosmetics == null ? Collections.emptySet() : Set.copyOf(cosmetics);
     }
 
+    /** Snapshot of a player's current entitlements. */
+    public static S2CEntitlementsSync of(com.pastlands.cosmeticslite.PlayerEntitlements cap) {
+        return new S2CEntitlementsSync(cap.epoch(), cap.version(), cap.allPacks(), cap.allCosmetics());
+    }
+
     public Set<String> packs() { return packs; }
     public Set<String> cosmetics() { return cosmetics; }
 
@@ -40,22 +52,32 @@ public final class S2CEntitlementsSync {
     // --------------------------------------------------------------------------------------------
 
     public void encode(FriendlyByteBuf buf) {
+        buf.writeLong(epoch);
+        buf.writeVarLong(version);
         writeStringSet(buf, packs);
-        writeStringSet(buf, cosmetics);
+        buf.writeVarInt(cosmetics.size());
+        for (String s : cosmetics) IdPalette.writeString(buf, s);
     }
 
     public static S2CEntitlementsSync decode(FriendlyByteBuf buf) {
+        long epoch = buf.readLong();
+        long version = buf.readVarLong();
         Set<String> packs = readStringSet(buf);
-        Set<String> cosmetics = readStringSet(buf);
-        return new S2CEntitlementsSync(packs, cosmetics);
+        int n = buf.readVarInt();
+        Set<String> cosmetics = new HashSet<>(Math.max(0, n));
+        for (int i = 0; i < n; i++) {
+            String s = IdPalette.readString(buf);
+            if (s != null) cosmetics.add(s);
+        }
+        return new S2CEntitlementsSync(epoch, version, packs, cosmetics);
     }
 
-    private static void writeStringSet(FriendlyByteBuf buf, Set<String> set) {
+    static void writeStringSet(FriendlyByteBuf buf, Set<String> set) {
         buf.writeVarInt(set.size());
         for (String s : set) buf.writeUtf(s, 256);
     }
 
-    private static Set<String> readStringSet(FriendlyByteBuf buf) {
+    static Set<String> readStringSet(FriendlyByteBuf buf) {
         int n = buf.readVarInt();
         Set<String> out = new HashSet<>(Math.max(0, n));
         for (int i = 0; i < n; i++) out.add(buf.readUtf(256));
@@ -67,10 +89,23 @@ public final class S2CEntitlementsSync {
     // --------------------------------------------------------------------------------------------
 
     public static void handle(S2CEntitlementsSync msg, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> EntitlementsClientCache.update(msg.packs, msg.cosmetics));
+        ctx.get().enqueueWork(() -> apply(msg));
         ctx.get().setPacketHandled(true);
     }
 
+    /**
+     * Client main thread (also used by the login bundle). A snapshot older than what the cache
+     * holds (same epoch, lower version) is ignored; the ack then repeats the held version.
+     */
+    public static void apply(S2CEntitlementsSync msg) {
+        if (msg.epoch == EntitlementsClientCache.epoch() && msg.version < EntitlementsClientCache.version()) {
+            C2SEntitlementsAck.send(EntitlementsClientCache.epoch(), EntitlementsClientCache.version(), false);
+            return;
+        }
+        EntitlementsClientCache.update(msg.epoch, msg.version, msg.packs, msg.cosmetics);
+        C2SEntitlementsAck.send(msg.epoch, msg.version, false);
+    }
+
     // --------------------------------------------------------------------------------------------
     // Client cache (read-only helpers for GUI)
     // --------------------------------------------------------------------------------------------
@@ -79,11 +114,15 @@ public final class S2CEntitlementsSync {
     public static final class EntitlementsClientCache {
         private static Set<String> PACKS = Collections.emptySet();
         private static Set<String> COSMETICS = Collections.emptySet();
+        private static long EPOCH = 0L;
+        private static long VERSION = -1L;
 
         private EntitlementsClientCache() {}
 
         /** Update cache from network (main thread). */
-        public static void update(Set<String> packs, Set<String> cosmetics) {
+        public static void update(long epoch, long version, Set<String> packs, Set<String> cosmetics) {
+            EPOCH = epoch;
+            VERSION = version;
             // Defensive copies
             PACKS = packs == null ? Collections.emptySet() : Set.copyOf(packs);
             COSMETICS = cosmetics == null ? Collections.emptySet() : Set.copyOf(cosmetics);
@@ -93,6 +132,27 @@ public final class S2CEntitlementsSync {
             }
         }
 
+        /**
+         * Apply a delta (main thread). False when it doesn't fit what we hold (other epoch, or it
+         * starts after our version); the caller then asks for a full snapshot.
+         */
+        public static boolean applyDelta(S2CEntitlementsDelta delta) {
+            if (delta.epoch() != EPOCH || VERSION < delta.fromVersion()) return false;
+            if (VERSION >= delta.toVersion()) return true; // already there (overlapping delta)
+            // Touched ids carry their final presence, so replay is safe from any version in [from, to]
+            Set<String> packs = new HashSet<>(PACKS);
+            packs.removeAll(delta.packRemoves());
+            packs.addAll(delta.packAdds());
+            Set<String> cosmetics = new HashSet<>(COSMETICS);
+            cosmetics.removeAll(delta.cosmeticRemoves());
+            cosmetics.addAll(delta.cosmeticAdds());
+            update(EPOCH, delta.toVersion(), packs, cosmetics);
+            return true;
+        }
+
+        public static long epoch() { return EPOCH; }
+        public static long version() { return VERSION; }
+
         public static boolean hasPack(String rlString) {
             return rlString != null && PACKS.contains(rlString);
         }
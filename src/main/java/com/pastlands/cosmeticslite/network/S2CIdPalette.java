@@ -0,0 +1,53 @@
+package com.pastlands.cosmeticslite.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: id palette table (start == 0) or an append-only addition.
+ *
+ * <p>Payload: varint start, varint count, count x id string.</p>
+ */
+public final class S2CIdPalette {
+    private final int start;
+    private final List<ResourceLocation> ids;
+
+    public S2CIdPalette(int start, List<ResourceLocation> ids) {
+        this.start = start;
+        this.ids = ids;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CIdPalette msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.start);
+        buf.writeVarInt(msg.ids.size());
+        for (ResourceLocation id : msg.ids) buf.writeResourceLocation(id);
+    }
+
+    public static S2CIdPalette decode(FriendlyByteBuf buf) {
+        int start = buf.readVarInt();
+        int n = buf.readVarInt();
+        List<ResourceLocation> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) ids.add(buf.readResourceLocation());
+        return new S2CIdPalette(start, ids);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CIdPalette msg, Supplier<NetworkEvent.Context> ctx) {
+        // Applied right away, NOT via enqueueWork: the packets behind this one are decoded
+        // on the network thread and must already see the new entries.
+        IdPalette.applyOnClient(msg.start, msg.ids);
+        ctx.get().setPacketHandled(true);
+    }
+}
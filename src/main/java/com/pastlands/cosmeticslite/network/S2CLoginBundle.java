@@ -0,0 +1,228 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticCommand;
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.PacketSyncCosmetics;
+import com.pastlands.cosmeticslite.PlayerData;
+import com.pastlands.cosmeticslite.PlayerEntitlements;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: all login state in one packet.
+ *
+ * <p>Replaces the five back-to-back login payloads (equip, access, entitlements, particle
+ * definitions, particle catalog). Definitions travel as a {@link ParticleDefinitionManifest};
+ * bodies are resolved from the client's disk cache. The catalog is only a stamp; entries load
+ * lazily. Every section carries a 64-bit content hash. The client opens
+ * the exchange with {@link C2SLoginSyncHello}, listing the hashes it still holds for this server,
+ * and the server leaves out cacheable sections whose hash matches.</p>
+ *
+ * <p>Payload: byte format version, byte count, count x { byte section, long hash, bool included,
+ * [byte[] section body] }. Section bodies are the existing packet encodings, so an unknown
+ * section can be skipped by length.</p>
+ */
+public final class S2CLoginBundle {
+
+    /** Bump when a section body changes shape. */
+    public static final int FORMAT_VERSION = 2;
+
+    /** Sections in apply order. Only cacheable ones are worth hashing against the client. */
+    public enum Section {
+        EQUIP(false, (buf, hash) -> {
+            PacketSyncCosmetics msg = PacketSyncCosmetics.decode(buf);
+            return () -> PacketSyncCosmetics.apply(msg);
+        }),
+        ACCESS(false, (buf, hash) -> {
+            SyncCosmeticsAccessPacket msg = SyncCosmeticsAccessPacket.decode(buf);
+            return () -> SyncCosmeticsAccessPacket.apply(msg);
+        }),
+        ENTITLEMENTS(false, (buf, hash) -> {
+            S2CEntitlementsSync msg = S2CEntitlementsSync.decode(buf);
+            return () -> S2CEntitlementsSync.apply(msg);
+        }),
+        /**
+         * Manifest only; bodies come from the client disk cache or a follow-up request. When skipped
+         * by hash, the snapshot is restored from the disk cache (see {@link #reuse}).
+         */
+        DEFINITIONS(true, (buf, hash) -> {
+            ParticleDefinitionManifest msg = ParticleDefinitionManifest.decode(buf);
+            return () -> ParticleDefinitionClientCache.onManifest(msg, hash);
+        }),
+        /** Stamp only; entries are fetched per slot when a screen needs them ({@link CatalogSync}). */
+        CATALOG(false, (buf, hash) -> {
+            S2CCatalogStamp msg = S2CCatalogStamp.decode(buf);
+            return () -> S2CCatalogStamp.apply(msg);
+        });
+
+        private static final Section[] VALUES = values();
+
+        /** True when the client keeps this state across sessions, so a hash match can skip it. */
+        public final boolean cacheable;
+        /** Section body and its hash → apply step (client main thread). */
+        private final BiFunction<FriendlyByteBuf, Long, Runnable> decoder;
+
+        Section(boolean cacheable, BiFunction<FriendlyByteBuf, Long, Runnable> decoder) {
+            this.cacheable = cacheable;
+            this.decoder = decoder;
+        }
+
+        /**
+         * Client: the server skipped this section because we hold {@code hash}. Brings the state
+         * back if this session has not applied it yet (e.g. after a restart).
+         */
+        void reuse(long hash) {
+            if (this == DEFINITIONS) ParticleDefinitionClientCache.onReused(hash);
+        }
+
+        @Nullable
+        public static Section byOrdinal(int ordinal) {
+            return (ordinal >= 0 && ordinal < VALUES.length) ? VALUES[ordinal] : null;
+        }
+    }
+
+    /** One section: body is null when the client already holds this hash. */
+    private record Part(Section section, long hash, @Nullable byte[] body, @Nullable Runnable apply) {}
+
+    private final int version;
+    private final List<Part> parts;
+
+    private S2CLoginBundle(int version, List<Part> parts) {
+        this.version = version;
+        this.parts = parts;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Server: build + send
+    // --------------------------------------------------------------------------------------------
+
+    /** Build the bundle for {@code sp}, leaving out cacheable sections the client holds. */
+    public static void send(ServerPlayer sp, Map<Section, Long> held) {
+        if (sp == null) return;
+        List<Part> parts = new ArrayList<>(Section.VALUES.length);
+        int skipped = 0;
+        for (Section section : Section.VALUES) {
+            byte[] body = encodeSection(section, sp);
+            long hash = hash(body);
+            Long clientHash = held.get(section);
+            if (section.cacheable && clientHash != null && clientHash == hash) {
+                parts.add(new Part(section, hash, null, null));
+                skipped++;
+            } else {
+                parts.add(new Part(section, hash, body, null));
+            }
+        }
+        ChunkedTransfer.send(sp, new S2CLoginBundle(FORMAT_VERSION, parts));
+        if (CosmeticsLite.DEBUG_SYNC) {
+            CosmeticsLite.LOGGER.debug("[CosLite] Login bundle for {}: {} section(s), {} skipped by hash",
+                    sp.getGameProfile().getName(), parts.size(), skipped);
+        }
+    }
+
+    private static byte[] encodeSection(Section section, ServerPlayer sp) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            switch (section) {
+                case EQUIP -> {
+                    Map<String, String> equipped = PlayerData.get(sp).map(PlayerData::getAllEquipped).orElse(Collections.emptyMap());
+                    PacketSyncCosmetics.encode(new PacketSyncCosmetics(sp.getId(), equipped), buf);
+                }
+                case ACCESS -> SyncCosmeticsAccessPacket.encode(new SyncCosmeticsAccessPacket(CosmeticCommand.hasAccess(sp)), buf);
+                case ENTITLEMENTS -> {
+                    S2CEntitlementsSync msg = PlayerEntitlements.get(sp)
+                            .map(S2CEntitlementsSync::of)
+                            .orElseGet(() -> new S2CEntitlementsSync(0L, -1L, Collections.emptySet(), Collections.emptySet()));
+                    msg.encode(buf);
+                }
+                case DEFINITIONS -> ParticleDefinitionManifest.encode(ParticleDefinitionManifest.ofRegistry(), buf);
+                case CATALOG -> S2CCatalogStamp.encode(new S2CCatalogStamp(CatalogSync.stamp()), buf);
+            }
+            byte[] out = new byte[buf.readableBytes()];
+            buf.readBytes(out);
+            return out;
+        } finally {
+            buf.release();
+        }
+    }
+
+    /** FNV-1a, 64-bit. Stable across JVMs, which is all a cache key needs. */
+    static long hash(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CLoginBundle msg, FriendlyByteBuf buf) {
+        buf.writeByte(msg.version);
+        buf.writeByte(msg.parts.size());
+        for (Part part : msg.parts) {
+            buf.writeByte(part.section().ordinal());
+            buf.writeLong(part.hash());
+            buf.writeBoolean(part.body() != null);
+            if (part.body() != null) buf.writeByteArray(part.body());
+        }
+    }
+
+    /** Sections are decoded here, on the network thread, so palette ids resolve in order. */
+    public static S2CLoginBundle decode(FriendlyByteBuf buf) {
+        int version = buf.readUnsignedByte();
+        int n = buf.readUnsignedByte();
+        List<Part> parts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Section section = Section.byOrdinal(buf.readUnsignedByte());
+            long hash = buf.readLong();
+            byte[] body = buf.readBoolean() ? buf.readByteArray() : null;
+            if (section == null) continue; // newer server; body already skipped by length
+            Runnable apply = null;
+            if (body != null) {
+                FriendlyByteBuf sectionBuf = new FriendlyByteBuf(Unpooled.wrappedBuffer(body));
+                apply = section.decoder.apply(sectionBuf, hash);
+            }
+            parts.add(new Part(section, hash, null, apply));
+        }
+        return new S2CLoginBundle(version, parts);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CLoginBundle msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            if (msg.version != FORMAT_VERSION) {
+                CosmeticsLite.LOGGER.warn("[CosLite] Login bundle format {} (expected {}); applying known sections",
+                        msg.version, FORMAT_VERSION);
+            }
+            int reused = 0;
+            for (Part part : msg.parts) {
+                if (part.apply() != null) {
+                    part.apply().run();
+                } else {
+                    part.section().reuse(part.hash());
+                    reused++;
+                }
+                if (part.section().cacheable) LoginSyncClientCache.remember(part.section(), part.hash());
+            }
+            CosmeticsLite.LOGGER.debug("[CosLite] Applied login bundle: {} section(s), {} reused from cache",
+                    msg.parts.size(), reused);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.pastlands.cosmeticslite.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: requested particle definition bodies (see {@link C2SParticleDefinitionsRequest}).
+ *
+ * <p>Bodies stay as raw bytes so the client can hash and cache exactly what the server hashed.</p>
+ */
+public final class S2CParticleDefinitionBodies {
+    private final Map<ResourceLocation, byte[]> bodies;
+
+    public S2CParticleDefinitionBodies(Map<ResourceLocation, byte[]> bodies) {
+        this.bodies = bodies;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CParticleDefinitionBodies msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.bodies.size());
+        msg.bodies.forEach((id, body) -> {
+            IdPalette.write(buf, id);
+            buf.writeByteArray(body);
+        });
+    }
+
+    public static S2CParticleDefinitionBodies decode(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        Map<ResourceLocation, byte[]> bodies = new LinkedHashMap<>(Math.max(16, n * 2));
+        for (int i = 0; i < n; i++) {
+            ResourceLocation id = IdPalette.read(buf);
+            byte[] body = buf.readByteArray();
+            if (id != null) bodies.put(id, body);
+        }
+        return new S2CParticleDefinitionBodies(bodies);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CParticleDefinitionBodies msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ParticleDefinitionClientCache.onBodies(msg.bodies));
+        ctx.get().setPacketHandled(true);
+    }
+}
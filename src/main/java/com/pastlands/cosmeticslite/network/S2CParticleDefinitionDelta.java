@@ -0,0 +1,103 @@
+package com.pastlands.cosmeticslite.network;
+
+import com.pastlands.cosmeticslite.CosmeticsLite;
+import com.pastlands.cosmeticslite.particle.config.CosmeticParticleRegistry;
+import com.pastlands.cosmeticslite.particle.config.ParticleDefinition;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: upserts / deletes of individual particle definitions.
+ *
+ * <p>Sent by {@link ParticleDefinitionDeltas} after a Particle Lab save or delete, instead of
+ * the full {@link ParticleDefinitionsSyncPacket}. Bodies are the
+ * {@link ParticleDefinitionManifest#encodeBody} bytes, so the client disk cache is patched too.</p>
+ *
+ * <p>Payload: varint count, count x { palette id, bool present, [byte[] body] }.</p>
+ */
+public final class S2CParticleDefinitionDelta {
+
+    /** One changed definition; body == null means deleted. */
+    public record Change(ResourceLocation id, @Nullable byte[] body) {}
+
+    private final List<Change> changes;
+
+    public S2CParticleDefinitionDelta(List<Change> changes) {
+        this.changes = changes;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CParticleDefinitionDelta msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.changes.size());
+        for (Change c : msg.changes) {
+            IdPalette.write(buf, c.id());
+            buf.writeBoolean(c.body() != null);
+            if (c.body() != null) buf.writeByteArray(c.body());
+        }
+    }
+
+    public static S2CParticleDefinitionDelta decode(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        List<Change> changes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ResourceLocation id = IdPalette.read(buf);
+            byte[] body = buf.readBoolean() ? buf.readByteArray() : null;
+            if (id != null) changes.add(new Change(id, body));
+        }
+        return new S2CParticleDefinitionDelta(changes);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CParticleDefinitionDelta msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            // Manifest hash no longer matches what we hold
+            LoginSyncClientCache.invalidate(S2CLoginBundle.Section.DEFINITIONS);
+            Map<ResourceLocation, ParticleDefinition> lab = patchLabDefinitions(msg.changes);
+            ParticleDefinitionClientCache.onDelta(msg.changes);
+            CosmeticsLite.LOGGER.info("[ParticleLab] Applied {} definition change(s) from server", msg.changes.size());
+
+            net.minecraft.client.Minecraft mc = net.minecraft.client.Minecraft.getInstance();
+            if (mc.screen instanceof com.pastlands.cosmeticslite.client.screen.ParticleLabScreen screen) {
+                screen.onDefinitionsSynced(lab);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+
+    /**
+     * Patch the client registry with single-definition changes. The registry only exposes a
+     * whole-lab swap, so the current lab set is rebuilt locally (no network cost) and swapped once.
+     *
+     * @return the lab definitions after patching
+     */
+    public static Map<ResourceLocation, ParticleDefinition> patchLabDefinitions(List<Change> changes) {
+        Map<ResourceLocation, ParticleDefinition> lab = new HashMap<>();
+        for (ParticleDefinition def : CosmeticParticleRegistry.all()) {
+            if (CosmeticParticleRegistry.isLabDefinition(def.id())) lab.put(def.id(), def);
+        }
+        for (Change c : changes) {
+            if (c.body() == null) {
+                lab.remove(c.id());
+                continue;
+            }
+            ParticleDefinition def = ParticleDefinitionManifest.decodeBody(c.id(), c.body());
+            if (def != null) lab.put(c.id(), def);
+        }
+        CosmeticParticleRegistry.applyLabSnapshotFromServer(lab);
+        return lab;
+    }
+}
@@ -0,0 +1,75 @@
+package com.pastlands.cosmeticslite.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: one piece of a {@link ChunkedTransfer} payload.
+ *
+ * <p>Payload: varint transferId, varint payload type, varint seq, varint total, byte[] data.</p>
+ *
+ * <p>Server side the chunk is a view (offset/size) into the payload's single encoded array, so
+ * queuing a large payload does not copy it per chunk.</p>
+ */
+public final class S2CPayloadChunk {
+    private final int transferId;
+    private final int codecId;
+    private final int seq;
+    private final int total;
+    private final byte[] data;
+    private final int offset;
+    private final int size;
+
+    S2CPayloadChunk(int transferId, int codecId, int seq, int total, byte[] data, int offset, int size) {
+        this.transferId = transferId;
+        this.codecId = codecId;
+        this.seq = seq;
+        this.total = total;
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public int transferId() { return transferId; }
+    public int codecId() { return codecId; }
+    public int seq() { return seq; }
+    public int total() { return total; }
+    byte[] data() { return data; }
+    int offset() { return offset; }
+    public int size() { return size; }
+
+    // --------------------------------------------------------------------------------------------
+    // Codec
+    // --------------------------------------------------------------------------------------------
+
+    public static void encode(S2CPayloadChunk msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.transferId);
+        buf.writeVarInt(msg.codecId);
+        buf.writeVarInt(msg.seq);
+        buf.writeVarInt(msg.total);
+        buf.writeVarInt(msg.size);
+        buf.writeBytes(msg.data, msg.offset, msg.size);
+    }
+
+    public static S2CPayloadChunk decode(FriendlyByteBuf buf) {
+        int transferId = buf.readVarInt();
+        int codecId = buf.readVarInt();
+        int seq = buf.readVarInt();
+        int total = buf.readVarInt();
+        byte[] data = buf.readByteArray(ChunkedTransfer.CHUNK_BYTES);
+        return new S2CPayloadChunk(transferId, codecId, seq, total, data, 0, data.length);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Handler
+    // --------------------------------------------------------------------------------------------
+
+    public static void handle(S2CPayloadChunk msg, Supplier<NetworkEvent.Context> ctx) {
+        // Reassembly runs right here, NOT via enqueueWork: the completed payload must decode in
+        // arrival order (palette ids). Its own handler then queues the main-thread work.
+        ChunkedTransfer.onChunk(msg, ctx);
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -25,10 +25,13 @@ public class SyncCosmeticsAccessPacket {
 
     // Handle packet on client
     public static void handle(SyncCosmeticsAccessPacket msg, Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> {
-            // Update client-side cosmetics state
-            com.pastlands.cosmeticslite.client.CosmeticsClientState.setUnlocked(msg.unlocked);
-        });
+        ctx.get().enqueueWork(() -> apply(msg));
         ctx.get().setPacketHandled(true);
     }
+
+    // Apply on client main thread (also used by the login bundle)
+    public static void apply(SyncCosmeticsAccessPacket msg) {
+        // Update client-side cosmetics state
+        com.pastlands.cosmeticslite.client.CosmeticsClientState.setUnlocked(msg.unlocked);
+    }
 }
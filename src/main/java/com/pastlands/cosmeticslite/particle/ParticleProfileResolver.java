@@ -255,7 +255,8 @@ public final class ParticleProfileResolver {
             return new ResolutionResult(null, "simple-catalog", profileId, entry);
         }
         
-        // Step 4: True fallback → gear spark
+        // Step 4: True fallback → gear spark; the worn slot may simply not be loaded yet
+        CosmeticParticleClientCatalog.onResolveMiss();
         return new ResolutionResult(null, "fallback-default", profileId, null);
     }
     